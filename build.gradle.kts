@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,9 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.micrometer.registry.prometheus)
+    implementation(libs.caffeine)
     testImplementation("junit:junit:4.13.1")
     testImplementation("org.testng:testng:7.1.0")
     compileOnly(libs.lombok)
@@ -40,6 +44,19 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark tasks (./gradlew jmh)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // 저장소 지연(throttle)을 끄고 순수 CPU/lock 비용만 측정한다. -PjmhThrottle 을 주면 throttle 을 켠 채로 측정한다.
+    if (!project.hasProperty("jmhThrottle")) {
+        jvmArgsAppend.add("-Dhhplus.tdd.throttle.disabled=true")
+    }
+    // 커밋 간 비교할 수 있도록 결과를 JSON 으로 남긴다. (build/results/jmh/results.json)
+    resultFormat.set("JSON")
+    // -PjmhIncludes=PointServiceBenchmark 처럼 실행할 벤치마크를 정규식으로 고른다.
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
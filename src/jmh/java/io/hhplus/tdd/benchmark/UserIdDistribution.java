@@ -0,0 +1,69 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청할 사용자 ID 분포
+ * - SINGLE : 한 사용자에게만 요청한다. (최대 경합)
+ * - UNIFORM : 모든 사용자에게 고르게 요청한다.
+ * - ZIPFIAN : 소수의 사용자에게 요청이 몰린다. (theta = 0.99, YCSB 기본값)
+ */
+public enum UserIdDistribution {
+    SINGLE, UNIFORM, ZIPFIAN;
+
+    public Sampler sampler(long users) {
+        return switch (this) {
+            case SINGLE -> () -> 1L;
+            case UNIFORM -> () -> ThreadLocalRandom.current().nextLong(1, users + 1);
+            case ZIPFIAN -> new Zipfian(users, 0.99);
+        };
+    }
+
+    /**
+     * 1 ~ users 범위의 사용자 ID 를 뽑는다.
+     */
+    public interface Sampler {
+        long next();
+    }
+
+    /**
+     * Gray et al. "Quickly Generating Billion-Record Synthetic Databases" 의 Zipfian 생성기 (YCSB 구현과 동일)
+     */
+    static final class Zipfian implements Sampler {
+        private final long items;
+        private final double theta;
+        private final double zetaN;
+        private final double alpha;
+        private final double eta;
+
+        Zipfian(long items, double theta) {
+            this.items = items;
+            this.theta = theta;
+            this.zetaN = zeta(items, theta);
+            double zeta2 = zeta(2, theta);
+            this.alpha = 1.0 / (1.0 - theta);
+            this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+        }
+
+        @Override
+        public long next() {
+            double u = ThreadLocalRandom.current().nextDouble();
+            double uz = u * zetaN;
+            if (uz < 1.0) {
+                return 1L;
+            }
+            if (uz < 1.0 + Math.pow(0.5, theta)) {
+                return 2L;
+            }
+            return 1L + Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+        }
+
+        private static double zeta(long n, double theta) {
+            double sum = 0;
+            for (long i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            return sum;
+        }
+    }
+}
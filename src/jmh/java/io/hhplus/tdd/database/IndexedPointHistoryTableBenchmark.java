@@ -0,0 +1,45 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수가 늘어나도 유저별 내역 조회 지연(p99)이 일정한지 측정한다.
+ * - 유저당 내역 수는 고정하고 유저 수를 늘려 전체 row 를 10k ~ 10M 으로 키운다.
+ * - SampleTime 모드의 결과에서 p0.99 값을 비교한다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IndexedPointHistoryTableBenchmark {
+
+    private static final int ROWS_PER_USER = 10;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private IndexedPointHistoryTable pointHistoryTable;
+    private int users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new IndexedPointHistoryTable();
+        users = rows / ROWS_PER_USER;
+        for (int i = 0; i < rows; i++) {
+            pointHistoryTable.insert(i % users + 1, 100, TransactionType.CHARGE, i);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId() {
+        return pointHistoryTable.selectAllByUserId(ThreadLocalRandom.current().nextLong(1, users + 1));
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.database;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 테이블 구현별로 사용자 수에 따른 힙 사용량을 비교한다.
+ * - 매 실행마다 테이블을 새로 채운 뒤 GC 이후 늘어난 힙 크기를 retainedBytes / bytesPerUser 로 보고한다.
+ * - 결과의 secondary metric(retainedBytes, bytesPerUser)을 비교한다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserPointStoreFootprintBenchmark {
+
+    public enum Store {
+        TABLE, PRIMITIVE;
+
+        UserPointStore create() {
+            return switch (this) {
+                case TABLE -> new TableUserPointStore(new UserPointTable());
+                case PRIMITIVE -> new PrimitiveUserPointTable();
+            };
+        }
+    }
+
+    @Param({"TABLE", "PRIMITIVE"})
+    private Store store;
+
+    @Param({"1000000", "10000000"})
+    private int users;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+        public long bytesPerUser;
+    }
+
+    // 측정하는 동안 테이블이 수거되지 않도록 붙잡아 둔다.
+    private UserPointStore populated;
+
+    @Benchmark
+    public UserPointStore populate(Footprint footprint) {
+        populated = null;
+        long before = usedHeapAfterGc();
+        UserPointStore userPointStore = store.create();
+        for (long id = 1; id <= users; id++) {
+            userPointStore.insertOrUpdate(id, id);
+        }
+        populated = userPointStore;
+        footprint.retainedBytes = usedHeapAfterGc() - before;
+        footprint.bytesPerUser = footprint.retainedBytes / users;
+        return populated;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
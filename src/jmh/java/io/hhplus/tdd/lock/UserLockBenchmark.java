@@ -0,0 +1,51 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * lock 방식별 처리량을 사용자 분포(UNIFORM/ZIPFIAN)에 따라 비교한다.
+ * - lock 안에서는 짧은 CPU 작업만 수행해 lock 자체의 비용과 경합을 드러낸다.
+ * - MAP 은 사용자 수만큼 lock 이 쌓이므로 -prof gc 로 할당량도 함께 비교한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserLockBenchmark {
+
+    @Param({"MAP", "STRIPED", "CAS"})
+    private UserLockStrategy.Type type;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    private UserIdDistribution distribution;
+
+    @Param({"1000000"})
+    private long users;
+
+    private UserLockStrategy userLock;
+    private UserIdDistribution.Sampler sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userLock = type.create(0);
+        sampler = distribution.sampler(users);
+    }
+
+    @Benchmark
+    public void lockAndUnlock() {
+        long id = sampler.next();
+        userLock.lock(id);
+        try {
+            Blackhole.consumeCPU(64);
+        } finally {
+            userLock.unlock(id);
+        }
+    }
+}
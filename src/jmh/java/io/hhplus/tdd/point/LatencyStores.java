@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 저장소 호출마다 고정된 시간만큼 block 되는 저장소
+ * 벤치마크는 throttle 을 끄고 실행하므로, 저장소 지연이 필요한 벤치마크는 테이블을 이것으로 감싼다.
+ * (throttle 처럼 임의의 지연이 아니라 고정 지연이라 결과를 비교하기 쉽다)
+ */
+final class LatencyStores {
+
+    private LatencyStores() {
+    }
+
+    static UserPointStore userPointStore(UserPointStore delegate, int millis) {
+        return new SlowUserPointStore(delegate, millis);
+    }
+
+    static PointHistoryStore pointHistoryStore(PointHistoryStore delegate, int millis) {
+        return new SlowPointHistoryStore(delegate, millis);
+    }
+
+    private static void block(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record SlowUserPointStore(UserPointStore delegate, int millis) implements UserPointStore {
+        @Override
+        public UserPoint selectById(long id) {
+            block(millis);
+            return delegate.selectById(id);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            block(millis);
+            return delegate.insertOrUpdate(id, amount);
+        }
+    }
+
+    private record SlowPointHistoryStore(PointHistoryStore delegate, int millis) implements PointHistoryStore {
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            block(millis);
+            return delegate.insert(userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+            block(millis);
+            return delegate.insertAll(histories);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            block(millis);
+            return delegate.selectAllByUserId(userId);
+        }
+
+        @Override
+        public Set<Long> selectAllUserIds() {
+            return delegate.selectAllUserIds();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryStore.NewPointHistory;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역이 많은 사용자의 GET /point/{id}/histories 응답 직렬화 비교
+ * - buffered : 전체 목록을 복사한 뒤 응답 본문 전체를 byte[] 로 만든다. (기존 방식)
+ * - streaming : chunk 단위로 읽으면서 출력으로 바로 쓴다.
+ * - streamingFirstChunk : 첫 chunk 를 내보낼 때까지의 시간 (time-to-first-byte)
+ * 힙 사용량은 -prof gc 의 gc.alloc.rate.norm (호출당 할당량)으로 비교한다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PointHistorySerializationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PointService pointService;
+    private PointHistoryJsonWriter pointHistoryJsonWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        List<NewPointHistory> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new NewPointHistory(USER_ID, 100, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                pointHistoryTable.insertAll(batch);
+                batch.clear();
+            }
+        }
+        pointHistoryTable.insertAll(batch);
+        pointService = PointService.builder(pointHistoryTable, new TableUserPointStore(new UserPointTable())).build();
+        pointHistoryJsonWriter = new PointHistoryJsonWriter(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] buffered() throws IOException {
+        return objectMapper.writeValueAsBytes(pointService.getPointHistory(USER_ID));
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        pointHistoryJsonWriter.writeArray(pointService.streamPointHistory(USER_ID), new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void streamingFirstChunk(Blackhole blackhole) throws IOException {
+        try {
+            pointHistoryJsonWriter.writeArray(pointService.streamPointHistory(USER_ID), new FirstFlushOutputStream(blackhole));
+        } catch (FirstFlushOutputStream.FirstFlush ignored) {
+            // 첫 chunk 를 내보낸 시점에서 멈춘다.
+        }
+    }
+
+    private static class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        private BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+
+    private static class FirstFlushOutputStream extends BlackholeOutputStream {
+        private static final FirstFlush FIRST_FLUSH = new FirstFlush();
+
+        private FirstFlushOutputStream(Blackhole blackhole) {
+            super(blackhole);
+        }
+
+        @Override
+        public void flush() {
+            throw FIRST_FLUSH;
+        }
+
+        private static class FirstFlush extends RuntimeException {
+            private FirstFlush() {
+                super(null, null, false, false);
+            }
+        }
+    }
+}
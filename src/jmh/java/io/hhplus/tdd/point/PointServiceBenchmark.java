@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.database.PointHistoryStore.NewPointHistory;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 연산별 처리량을 사용자 분포와 전체 내역 수에 따라 측정한다.
+ * - distribution : SINGLE (한 사용자 경합) | UNIFORM | ZIPFIAN
+ * - historyRows : 미리 쌓아두는 전체 내역 수 (사용자마다 고르게 나눈다)
+ * - throttle 은 build.gradle.kts 의 jmh 설정으로 끈다. (-PjmhThrottle 로 켤 수 있다)
+ * - 충전/사용이 쌓는 내역이 측정 간에 누적되지 않도록 iteration 마다 테이블을 새로 만든다.
+ * - 잔액은 thread-safe 한 PrimitiveUserPointTable 에 저장한다. (UserPointTable 은 HashMap 이라 여러 스레드에서 쓸 수 없다)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PointServiceBenchmark {
+
+    private static final int BATCH_SIZE = 4096;
+    // 충전/사용을 반복해도 한도(0 ~ 1억)를 벗어나지 않는 잔액
+    private static final long INITIAL_POINT = 50_000_000;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPFIAN"})
+    private UserIdDistribution distribution;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int historyRows;
+
+    @Param({"1000"})
+    private int users;
+
+    private UserIdDistribution.Sampler sampler;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUpSampler() {
+        sampler = distribution.sampler(users);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        List<NewPointHistory> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < historyRows; i++) {
+            batch.add(new NewPointHistory(i % users + 1, 100, TransactionType.CHARGE, i));
+            if (batch.size() == BATCH_SIZE) {
+                pointHistoryTable.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            pointHistoryTable.insertAll(batch);
+        }
+        PrimitiveUserPointTable userPointTable = new PrimitiveUserPointTable();
+        for (long id = 1; id <= users; id++) {
+            userPointTable.insertOrUpdate(id, INITIAL_POINT);
+        }
+        pointService = PointService.builder(pointHistoryTable, userPointTable).build();
+    }
+
+    @Benchmark
+    public UserPoint chargePoint() {
+        return pointService.chargePoint(sampler.next(), 1);
+    }
+
+    @Benchmark
+    public UserPoint usePoint() {
+        return pointService.usePoint(sampler.next(), 1);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(sampler.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> getPointHistory() {
+        return pointService.getPointHistory(sampler.next());
+    }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장과 잔액 저장을 동시에 수행할 때(point.execution.parallel-writes)의 연산별 지연 시간 분포
+ * SampleTime 결과의 평균과 p0.99 를 parallelWrites=false/true 사이에 비교한다.
+ * 저장소 호출마다 storageMillis 만큼 block 된다. (LatencyStores)
+ * 충전/사용은 잔액 조회 + (내역 저장, 잔액 저장) 이므로 3 * storageMillis 에서 2 * storageMillis 로 줄어야 한다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PointServiceLatencyBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final long INITIAL_POINT = 10_000_000;
+
+    @Param({"false", "true"})
+    private boolean parallelWrites;
+
+    @Param({"5"})
+    private int storageMillis;
+
+    private ExecutorService historyWriteExecutor;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PrimitiveUserPointTable userPointTable = new PrimitiveUserPointTable();
+        KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+        for (long id = 1; id <= USERS; id++) {
+            userPointTable.insertOrUpdate(id, INITIAL_POINT);
+            knownUserRegistry.register(id);
+        }
+        historyWriteExecutor = parallelWrites ? PointExecutors.newFixedThreadPool("point-history-write", 64) : null;
+        pointService = PointService.builder(
+                        LatencyStores.pointHistoryStore(new IndexedPointHistoryTable(), storageMillis),
+                        LatencyStores.userPointStore(userPointTable, storageMillis))
+                .knownUserRegistry(knownUserRegistry)
+                .pointSummaries(new PointSummaries())
+                .historyWriteExecutor(historyWriteExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (historyWriteExecutor != null) {
+            historyWriteExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargePoint() {
+        return pointService.chargePoint(randomUser(), 1);
+    }
+
+    @Benchmark
+    public UserPoint usePoint() {
+        return pointService.usePoint(randomUser(), 1);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(randomUser());
+    }
+
+    private static long randomUser() {
+        return ThreadLocalRandom.current().nextLong(1, USERS + 1);
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.ShardedPointHistoryStore;
+import io.hhplus.tdd.lock.ShardedUserLock;
+import io.hhplus.tdd.lock.StripedUserLock;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 파티션 수에 따른 ShardedPointService 처리량 (point.sharding)
+ * - partitions : 1 은 파티션을 나누지 않은 것과 같은 구성이다. 코어 수까지 늘리며 처리량이 함께 느는지 본다.
+ * - distribution : UNIFORM | ZIPFIAN (ZIPFIAN 은 소수 사용자에게 몰리므로 파티션을 늘려도 그 사용자의 파티션에 요청이 몰린다)
+ * - selectAllUserIds 는 모든 파티션을 읽어 합치는 전체 조회 비용이다.
+ * - throttle 은 build.gradle.kts 의 jmh 설정으로 끈다. 충전/사용이 쌓는 내역이 누적되지 않도록 iteration 마다 새로 만든다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShardedPointServiceBenchmark {
+
+    // 충전/사용을 반복해도 한도(0 ~ 1억)를 벗어나지 않는 잔액
+    private static final long INITIAL_POINT = 50_000_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int partitions;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    private UserIdDistribution distribution;
+
+    @Param({"100000"})
+    private int users;
+
+    private UserIdDistribution.Sampler sampler;
+    private ShardedPointService pointService;
+    private ShardedPointHistoryStore pointHistoryStore;
+
+    @Setup(Level.Trial)
+    public void setUpSampler() {
+        sampler = distribution.sampler(users);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LongToIntFunction partitioner = id -> ShardedPointService.partitionOf(id, partitions);
+        AtomicLong historyCursor = new AtomicLong(1);
+        List<IndexedPointHistoryTable> historyTables = new ArrayList<>(partitions);
+        List<PrimitiveUserPointTable> balanceTables = new ArrayList<>(partitions);
+        List<UserLockStrategy> locks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            historyTables.add(new IndexedPointHistoryTable(historyCursor));
+            balanceTables.add(new PrimitiveUserPointTable());
+            locks.add(new StripedUserLock(0));
+        }
+        for (long id = 1; id <= users; id++) {
+            int partition = partitioner.applyAsInt(id);
+            historyTables.get(partition).insert(id, INITIAL_POINT, TransactionType.CHARGE, 0);
+            balanceTables.get(partition).insertOrUpdate(id, INITIAL_POINT);
+        }
+        UserLockStrategy userLock = new ShardedUserLock(locks, partitioner);
+        List<PointService> services = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+            knownUserRegistry.registerAll(historyTables.get(i).selectAllUserIds());
+            services.add(PointService.builder(historyTables.get(i), balanceTables.get(i))
+                    .knownUserRegistry(knownUserRegistry)
+                    .userLock(userLock)
+                    .pointSummaries(new PointSummaries())
+                    .build());
+        }
+        pointService = new ShardedPointService(services);
+        pointHistoryStore = new ShardedPointHistoryStore(historyTables, partitioner);
+    }
+
+    @Benchmark
+    public UserPoint chargePoint() {
+        return pointService.chargePoint(sampler.next(), 1);
+    }
+
+    @Benchmark
+    public UserPoint usePoint() {
+        return pointService.usePoint(sampler.next(), 1);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(sampler.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Set<Long> selectAllUserIds() {
+        return pointHistoryStore.selectAllUserIds();
+    }
+}
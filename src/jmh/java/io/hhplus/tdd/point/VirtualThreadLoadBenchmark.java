@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 스레드 종류에 따른 chargePoint 지속 처리량 (ops/s = RPS)
+ * - PLATFORM : Tomcat 기본값과 같은 200 개의 플랫폼 스레드 풀
+ * - VIRTUAL : 요청마다 가상 스레드 (Java 21 이상에서 실행해야 한다)
+ * 저장소 호출마다 storageMillis 만큼 block 되도록 해서 throttle 이 있는 테이블을 흉내낸다. (LatencyStores)
+ * -Djdk.tracePinnedThreads=short 로 실행 중 carrier 스레드가 고정(pinning)되면 출력된다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Djdk.tracePinnedThreads=short"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int USERS = 100_000;
+
+    public enum Threads {
+        PLATFORM, VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private Threads threads;
+
+    @Param({"200"})
+    private int platformThreads;
+
+    @Param({"20"})
+    private int storageMillis;
+
+    private ExecutorService requestExecutor;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestExecutor = PointExecutors.create("request", platformThreads, threads == Threads.VIRTUAL);
+        pointService = PointService.builder(
+                LatencyStores.pointHistoryStore(new IndexedPointHistoryTable(), storageMillis),
+                LatencyStores.userPointStore(new PrimitiveUserPointTable(), storageMillis)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void chargePoint() {
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long userId = ThreadLocalRandom.current().nextLong(1, USERS + 1);
+            requests[i] = CompletableFuture.runAsync(() -> pointService.chargePoint(userId, 1), requestExecutor);
+        }
+        CompletableFuture.allOf(requests).join();
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 내역 수에 따른 기동(복구) 시간
+ * - snapshot=false : 로그 전체를 replay 한다.
+ * - snapshot=true : 로그의 99% 를 담은 스냅샷으로 잔액을 불러오고 잔액은 나머지 1% 만 replay 한다.
+ *   내역은 보관 파일부터 모두 replay 하지만, 스냅샷에 반영된 로그는 보관 파일로 옮겨지므로
+ *   로그를 열 때 검사하는 것은 나머지 1% 뿐이다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class ColdStartBenchmark {
+
+    private static final int ROWS_PER_USER = 10;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    private Path directory;
+    private Path logFile;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-cold-start-benchmark");
+        logFile = directory.resolve("point.wal");
+        snapshotFile = directory.resolve("point.snapshot");
+        long users = Math.max(1, rows / ROWS_PER_USER);
+        int snapshotAt = rows - rows / 100;
+        try (PointWriteAheadLog writeAheadLog = open();
+             PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+            for (int i = 0; i < rows; i++) {
+                long userId = i % users + 1;
+                writeAheadLog.append(new PointWriteAheadLog.Entry(userId, TransactionType.CHARGE, 100, (i / users + 1) * 100L, i));
+                if (snapshot && i + 1 == snapshotAt) {
+                    writeAheadLog.sync();
+                    // 스냅샷은 저장소에서 잔액을 읽으므로, 지금까지의 로그로 저장소를 만든 뒤 남긴다.
+                    IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+                    PrimitiveUserPointTable userPointTable = new PrimitiveUserPointTable();
+                    writeAheadLog.recover(pointHistoryTable, userPointTable);
+                    snapshotter.snapshot(pointHistoryTable, userPointTable);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        // 로그와 스냅샷, 보관 파일을 모두 지운다.
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long coldStart() {
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        PrimitiveUserPointTable userPointTable = new PrimitiveUserPointTable();
+        try (PointWriteAheadLog writeAheadLog = open()) {
+            if (!snapshot) {
+                return writeAheadLog.recover(pointHistoryTable, userPointTable);
+            }
+            try (PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+                return snapshotter.restore(pointHistoryTable, userPointTable, id -> {
+                });
+            }
+        }
+    }
+
+    // 벤치마크 준비 시간을 줄이기 위해 fsync 는 묶어서 한다.
+    private PointWriteAheadLog open() {
+        return new PointWriteAheadLog(logFile, PointWriteAheadLog.FsyncPolicy.EVERY_N, Duration.ZERO, 1 << 16);
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * fsync 정책별 write-ahead log 기록 처리량
+ * - 여러 스레드가 동시에 append 하므로 PER_OP 에서도 fsync 가 묶이는 효과가 함께 측정된다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+public class PointWriteAheadLogBenchmark {
+
+    @Param({"PER_OP", "INTERVAL", "EVERY_N"})
+    private PointWriteAheadLog.FsyncPolicy policy;
+
+    @Param({"10"})
+    private int intervalMillis;
+
+    @Param({"64"})
+    private int everyRecords;
+
+    private Path directory;
+    private PointWriteAheadLog writeAheadLog;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-wal-benchmark");
+        writeAheadLog = new PointWriteAheadLog(directory.resolve("point.wal"), policy,
+                Duration.ofMillis(intervalMillis), everyRecords);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        writeAheadLog.close();
+        Files.deleteIfExists(directory.resolve("point.wal"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void append() {
+        long userId = ThreadLocalRandom.current().nextLong(1, 1_000_000);
+        writeAheadLog.append(new PointWriteAheadLog.Entry(userId, TransactionType.CHARGE, 100, 100, System.currentTimeMillis()));
+    }
+}
@@ -1,9 +1,12 @@
 package io.hhplus.tdd;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
 import io.hhplus.tdd.excpetion.UserNotFoundException;
 
 
@@ -23,4 +26,20 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
         return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
     }
+
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(429);
+        if (e.getRetryAfterMillis() > 0) {
+            // Retry-After 는 초 단위이므로 올림한다.
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfterMillis() + 999) / 1000));
+        }
+        return response.body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    // 비동기 요청 스레드(예: 적재 요청)의 대기열이 가득 찼을 때
+    @ExceptionHandler(value = TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException e) {
+        return ResponseEntity.status(429).body(new ErrorResponse("429", "처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
 }
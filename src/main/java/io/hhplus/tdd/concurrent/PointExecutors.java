@@ -0,0 +1,100 @@
+package io.hhplus.tdd.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 처리에 쓰는 스레드 풀을 만든다.
+ * - 기본은 이름이 붙은 daemon 플랫폼 스레드의 고정 크기 풀이다.
+ * - 가상 스레드를 켜면 작업마다 가상 스레드를 하나씩 만든다. (Java 21 이상)
+ *   빌드는 Java 17 기준이므로 가상 스레드 API 는 reflection 으로 호출한다.
+ */
+public final class PointExecutors {
+
+    private PointExecutors() {
+    }
+
+    /**
+     * 실행 중인 JVM 이 가상 스레드를 지원하는지
+     */
+    public static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * virtual 이면 작업마다 가상 스레드를 만드는 executor, 아니면 threads 개의 플랫폼 스레드 풀
+     */
+    public static ExecutorService create(String name, int threads, boolean virtual) {
+        return virtual ? newVirtualThreadPerTaskExecutor(name) : newFixedThreadPool(name, threads);
+    }
+
+    /**
+     * create 와 같되, 플랫폼 스레드 풀이면 대기열을 queueCapacity 로 제한한다. 가득 차면 RejectedExecutionException 이 발생한다.
+     * 가상 스레드는 대기열 없이 작업마다 스레드를 만든다.
+     */
+    public static ExecutorService create(String name, int threads, int queueCapacity, boolean virtual) {
+        return virtual ? newVirtualThreadPerTaskExecutor(name) : newFixedThreadPool(name, threads, queueCapacity);
+    }
+
+    /**
+     * name-1, name-2 ... 이름을 가진 daemon 스레드 threads 개의 풀 (threads 가 0 이하면 코어 수)
+     */
+    public static ExecutorService newFixedThreadPool(String name, int threads) {
+        return Executors.newFixedThreadPool(poolSize(threads), daemonThreadFactory(name));
+    }
+
+    /**
+     * newFixedThreadPool 과 같되, 대기열에 queueCapacity 개까지만 쌓는다.
+     */
+    public static ExecutorService newFixedThreadPool(String name, int threads, int queueCapacity) {
+        int size = poolSize(threads);
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), daemonThreadFactory(name));
+    }
+
+    /**
+     * 작업마다 name-N 이름의 가상 스레드를 만드는 executor
+     * = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory())
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        if (!virtualThreadsSupported()) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서 사용할 수 있습니다.");
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            Throwable cause = e instanceof InvocationTargetException target ? target.getCause() : e;
+            throw new IllegalStateException("가상 스레드 executor를 만들 수 없습니다.", cause);
+        }
+    }
+
+    private static int poolSize(int threads) {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
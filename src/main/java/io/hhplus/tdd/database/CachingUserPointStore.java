@@ -0,0 +1,101 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잔액 저장소 앞에 두는 read-through 캐시
+ * - 조회는 캐시에 있으면 바로 반환하고, 없으면 저장소에서 읽어 캐시에 채운다.
+ * - 변경은 저장소에 쓴 뒤 캐시도 새 값으로 바꾼다.
+ * - 저장소에서 읽는 사이 같은 구간(stripe)에 변경이 있었다면 읽은 값은 캐시에 넣지 않는다.
+ *   (늦게 도착한 옛 값이 새 값을 덮어써 stale 한 잔액이 조회되는 것을 막는다)
+ */
+public class CachingUserPointStore implements UserPointStore, MeterBinder {
+
+    private static final int GENERATION_STRIPES = 1 << 10;
+
+    private final UserPointStore delegate;
+    private final UserPointCache cache;
+    // 구간별 변경 횟수
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CachingUserPointStore(UserPointStore delegate, UserPointCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(id);
+        long generation = generations.get(stripe);
+        UserPoint loaded = delegate.selectById(id);
+        cache.putIf(loaded, () -> generations.get(stripe) == generation);
+        return loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        generations.incrementAndGet(stripe(id));
+        cache.put(userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        List<UserPoint> inserted = delegate.insertAll(balances);
+        for (UserPoint userPoint : inserted) {
+            generations.incrementAndGet(stripe(userPoint.id()));
+            cache.put(userPoint);
+        }
+        return inserted;
+    }
+
+    /**
+     * 캐시는 저장소에 먼저 쓴 뒤 갱신하므로 저장소에서 바로 읽는다.
+     * 모든 사용자를 훑는 조회가 캐시의 적중률과 eviction 순서를 흐트러뜨리지 않도록 캐시를 거치지 않는다.
+     */
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        return delegate.selectAllByIds(ids);
+    }
+
+    public double hitRatio() {
+        long hits = cache.hits();
+        long requests = hits + cache.misses();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.balance.cache.size", cache, UserPointCache::size)
+                .register(registry);
+        Gauge.builder("point.balance.cache.hit_ratio", this, CachingUserPointStore::hitRatio)
+                .register(registry);
+        FunctionCounter.builder("point.balance.cache.requests", cache, UserPointCache::hits)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.balance.cache.requests", cache, UserPointCache::misses)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.balance.cache.evictions", cache, UserPointCache::evictions)
+                .register(registry);
+    }
+
+    private static int stripe(long id) {
+        return UserLockStrategy.spread(id) & (GENERATION_STRIPES - 1);
+    }
+}
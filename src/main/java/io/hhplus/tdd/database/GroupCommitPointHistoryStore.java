@@ -0,0 +1,178 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 동시에 들어온 내역 저장 요청을 모아 한 번의 insertAll 로 저장한다. (group commit)
+ * - 첫 요청이 들어온 뒤 window 동안, 또는 maxBatchSize 건이 찰 때까지 모은다.
+ * - 각 호출자는 자신이 속한 묶음의 저장이 끝난 뒤에 반환된다.
+ * - 묶음 저장은 committer 스레드 하나가 순서대로 수행하므로, 저장 중에 들어온 요청은 다음 묶음으로 모인다.
+ * - 호출자는 사용자 lock 을 잡은 채 기다리므로 commitTimeout 이 지나도록 묶음에 담기지 않았으면 빼내고 실패로 돌려보낸다.
+ *   이미 묶음에 담겼으면 늦게라도 저장되므로 실패로 알리지 않고 실제 저장 결과를 기다린다.
+ * - close 는 committer 가 남은 요청을 저장하고 끝날 때까지 기다리고, 그 뒤에도 남은 요청은 실패로 돌려보낸다.
+ */
+public class GroupCommitPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitPointHistoryStore.class);
+    private static final Duration COMMIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PointHistoryStore delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long commitTimeoutNanos;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private volatile boolean closed;
+
+    public GroupCommitPointHistoryStore(PointHistoryStore delegate, Duration window, int maxBatchSize) {
+        this(delegate, window, maxBatchSize, COMMIT_TIMEOUT);
+    }
+
+    GroupCommitPointHistoryStore(PointHistoryStore delegate, Duration window, int maxBatchSize, Duration commitTimeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize는 1 이상 이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.commitTimeoutNanos = commitTimeout.toNanos();
+        this.committer = new Thread(this::run, "point-history-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        if (closed) {
+            throw new IllegalStateException("내역 저장소가 종료되었습니다.");
+        }
+        PendingInsert pending = new PendingInsert(new NewPointHistory(userId, amount, type, updateMillis));
+        queue.add(pending);
+        // close 와 경합해서 committer 가 끝난 뒤에 넣었다면, 아무도 꺼내지 않으므로 직접 실패시킨다.
+        if (closed && queue.remove(pending)) {
+            throw new IllegalStateException("내역 저장소가 종료되었습니다.");
+        }
+        try {
+            return pending.result.get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (TimeoutException e) {
+            // 아직 묶음에 담기지 않았다면 저장되지 않도록 빼내고 실패로 돌려보낸다.
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("내역 저장이 지연되고 있습니다.", e);
+            }
+            return awaitCommitted(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("내역 저장을 기다리는 중 중단되었습니다.", e);
+            }
+            return awaitCommitted(pending);
+        }
+    }
+
+    // 이미 묶음에 담긴 요청은 저장 여부가 정해질 때까지 기다린다. 실패로 알리고 나중에 저장되는 일이 없도록 한다.
+    private static PointHistory awaitCommitted(PendingInsert pending) {
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    private static RuntimeException failure(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+        return delegate.insertAll(histories);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PageQuery query) {
+        return delegate.selectPageByUserId(userId, query);
+    }
+
+    @Override
+    public Set<Long> selectAllUserIds() {
+        return delegate.selectAllUserIds();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        committer.interrupt();
+        try {
+            committer.join(TimeUnit.NANOSECONDS.toMillis(commitTimeoutNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException closedException = new IllegalStateException("내역 저장소가 종료되었습니다.");
+        remaining.forEach(pending -> pending.result.completeExceptionally(closedException));
+    }
+
+    private void run() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!closed) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingInsert next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 종료 시점에 남아있는 요청도 저장하고 돌려보낸다.
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+        }
+    }
+
+    private void commit(List<PendingInsert> batch) {
+        try {
+            List<PointHistory> inserted = delegate.insertAll(batch.stream().map(PendingInsert::history).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(inserted.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("포인트 내역 묶음 저장에 실패했습니다. size={}", batch.size(), e);
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private record PendingInsert(NewPointHistory history, CompletableFuture<PointHistory> result) {
+        private PendingInsert(NewPointHistory history) {
+            this(history, new CompletableFuture<>());
+        }
+    }
+}
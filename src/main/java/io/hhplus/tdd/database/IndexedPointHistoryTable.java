@@ -0,0 +1,176 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * PointHistoryTable 과 같은 API 를 가지되, 포인트 내역을 userId 별 세그먼트에 저장하는 테이블
+ * - 각 세그먼트는 append-only 이며 id 오름차순으로 쌓인다.
+ * - id 는 전역 cursor 로 발급한다.
+ * - selectAllByUserId 는 전체 내역이 아닌 해당 유저의 내역만 읽는다. (O(유저의 내역 수))
+ * - 세그먼트는 유형(TransactionType)별 목록도 함께 가지며, selectPageByUserId 는 id 와 updateMillis 로
+ *   이분 탐색해서 시작 위치를 찾으므로 O(log 유저의 내역 수 + 페이지 크기) 이다.
+ *   시스템 시각이 뒤로 돌아가 updateMillis 가 id 순서를 따르지 않게 된 세그먼트는 id 로만 찾고 시각은 한 건씩 거른다.
+ */
+@Component
+public class IndexedPointHistoryTable implements PointHistoryStore {
+    // -Dhhplus.tdd.throttle.disabled=true 로 실행하면 저장소 지연을 흉내내지 않는다. (벤치마크용)
+    private static final boolean THROTTLE_DISABLED = Boolean.getBoolean("hhplus.tdd.throttle.disabled");
+
+    private final Map<Long, Segment> table = new ConcurrentHashMap<>();
+    private final AtomicLong cursor;
+    // 저장된 내역 수 (cursor 는 파티션 테이블끼리 공유할 수 있으므로 따로 센다)
+    private final LongAdder rows = new LongAdder();
+
+    public IndexedPointHistoryTable() {
+        this(new AtomicLong(1));
+    }
+
+    /**
+     * 파티션별 테이블이 id 를 겹치지 않게 발급하도록 cursor 를 공유한다. (point.sharding)
+     */
+    public IndexedPointHistoryTable(AtomicLong cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        throttle(300L);
+        return append(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 여러 건을 한 번의 저장소 호출로 저장한다. (지연은 한 번만 발생한다)
+     */
+    @Override
+    public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+        throttle(300L);
+        List<PointHistory> inserted = new ArrayList<>(histories.size());
+        for (NewPointHistory history : histories) {
+            inserted.add(append(history.userId(), history.amount(), history.type(), history.updateMillis()));
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        Segment segment = table.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        synchronized (segment) {
+            return List.copyOf(segment.all);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PageQuery query) {
+        Segment segment = table.get(userId);
+        if (segment == null || query.limit() < 1) {
+            return List.of();
+        }
+        synchronized (segment) {
+            List<PointHistory> histories = query.type() == null ? segment.all : segment.byType[query.type().ordinal()];
+            int start = firstIndex(histories, history -> history.id() > query.afterId());
+            if (segment.timeOrdered) {
+                start = Math.max(start, firstIndex(histories, history -> history.updateMillis() >= query.fromMillis()));
+            }
+            List<PointHistory> page = new ArrayList<>(Math.min(query.limit(), histories.size() - start));
+            for (int i = start; i < histories.size() && page.size() < query.limit(); i++) {
+                PointHistory history = histories.get(i);
+                if (history.updateMillis() > query.toMillis()) {
+                    if (segment.timeOrdered) {
+                        break;
+                    }
+                    continue;
+                }
+                if (history.updateMillis() >= query.fromMillis()) {
+                    page.add(history);
+                }
+            }
+            return page;
+        }
+    }
+
+    /**
+     * 내역이 한 건 이상 있는 userId 목록을 반환한다.
+     */
+    @Override
+    public Set<Long> selectAllUserIds() {
+        return Set.copyOf(table.keySet());
+    }
+
+    /**
+     * 저장된 내역 수
+     */
+    public long size() {
+        return rows.sum();
+    }
+
+    private PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        Segment segment = table.computeIfAbsent(userId, k -> new Segment());
+        // id 발급과 추가를 함께 묶어 세그먼트가 항상 id 순으로 정렬되도록 한다.
+        synchronized (segment) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            if (!segment.all.isEmpty() && updateMillis < segment.all.get(segment.all.size() - 1).updateMillis()) {
+                segment.timeOrdered = false;
+            }
+            segment.all.add(pointHistory);
+            segment.byType[type.ordinal()].add(pointHistory);
+            rows.increment();
+            return pointHistory;
+        }
+    }
+
+    // 정렬된 histories 에서 condition 을 처음 만족하는 위치 (condition 은 앞쪽이 false, 뒤쪽이 true 인 조건)
+    private static int firstIndex(List<PointHistory> histories, Predicate<PointHistory> condition) {
+        int low = 0;
+        int high = histories.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(histories.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // 사용자 한 명의 내역, 전체 목록과 유형별 목록 모두 id 오름차순이다.
+    private static class Segment {
+        private final List<PointHistory> all = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        private final List<PointHistory>[] byType = new List[TransactionType.values().length];
+        // updateMillis 도 id 순서대로 쌓였는지, 시각이 뒤로 간 내역이 한 번이라도 들어오면 false 가 된다.
+        private boolean timeOrdered = true;
+
+        private Segment() {
+            for (int i = 0; i < byType.length; i++) {
+                byType[i] = new ArrayList<>();
+            }
+        }
+    }
+
+    private void throttle(long millis) {
+        if (THROTTLE_DISABLED) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+}
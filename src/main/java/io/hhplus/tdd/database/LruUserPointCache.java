@@ -0,0 +1,75 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 접근 순서를 유지하는 LinkedHashMap 으로 구현한 LRU 캐시
+ * 조회도 순서를 바꾸므로 모든 연산을 동기화한다.
+ */
+public class LruUserPointCache implements UserPointCache {
+
+    private final Map<Long, UserPoint> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LruUserPointCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized UserPoint get(long id) {
+        UserPoint userPoint = entries.get(id);
+        if (userPoint != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return userPoint;
+    }
+
+    @Override
+    public synchronized void put(UserPoint userPoint) {
+        entries.put(userPoint.id(), userPoint);
+    }
+
+    @Override
+    public synchronized void putIf(UserPoint userPoint, BooleanSupplier condition) {
+        if (condition.getAsBoolean()) {
+            entries.put(userPoint.id(), userPoint);
+        }
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long hits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long misses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,309 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 잔액을 memory-mapped 파일에 저장하는 테이블
+ * - 파일은 헤더(64 byte) 뒤에 (id, point, updateMillis) 24 byte 고정 길이 레코드가 이어지는 open addressing 해시 테이블이다.
+ * - 기동 시 파일을 그대로 map 하므로 재시작해도 잔액이 남아있고, 복구를 위해 다시 읽어들이는 과정이 없다.
+ * - 데이터는 힙 밖(page cache)에 있으므로 사용자 수가 늘어도 힙 사용량은 늘지 않는다.
+ * - 슬롯 수는 파일을 처음 만들 때 capacity 로 정해지며, 이후에는 파일 헤더의 값을 따른다.
+ */
+public class MappedUserPointTable implements UserPointStore, AutoCloseable {
+    // -Dhhplus.tdd.throttle.disabled=true 로 실행하면 저장소 지연을 흉내내지 않는다. (벤치마크용)
+    private static final boolean THROTTLE_DISABLED = Boolean.getBoolean("hhplus.tdd.throttle.disabled");
+
+    private static final long MAGIC = 0x4850_5550_4F49_4E54L; // "HPUPOINT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int RECORD_BYTES = 24;
+    // 하나의 MappedByteBuffer 는 2GB 를 넘을 수 없으므로 레코드 2^24 개(384MB)씩 나누어 map 한다.
+    private static final int SEGMENT_SHIFT = 24;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    private static final float LOAD_FACTOR = 0.75f;
+    // 0 은 빈 슬롯을 뜻하므로 id 0 은 헤더에 보관한다.
+    private static final long EMPTY = 0L;
+
+    // 헤더 필드 위치
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int SLOTS_OFFSET = 16;
+    private static final int SIZE_OFFSET = 24;
+    private static final int HAS_ZERO_OFFSET = 32;
+    private static final int ZERO_POINT_OFFSET = 40;
+    private static final int ZERO_UPDATE_MILLIS_OFFSET = 48;
+
+    private final StampedLock lock = new StampedLock();
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final long slots;
+    private final long mask;
+    private final long maxSize;
+    private long size;
+
+    /**
+     * @param file     잔액 파일, 없으면 새로 만든다.
+     * @param capacity 새 파일을 만들 때 담을 최대 사용자 수
+     */
+    public MappedUserPointTable(Path file, long capacity) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean created = channel.size() == 0;
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            if (created) {
+                if (capacity < 1) {
+                    throw new IllegalArgumentException("capacity는 1 이상 이어야 합니다.");
+                }
+                header.putLong(MAGIC_OFFSET, MAGIC);
+                header.putLong(VERSION_OFFSET, VERSION);
+                header.putLong(SLOTS_OFFSET, slotsFor(capacity));
+            } else if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getLong(VERSION_OFFSET) != VERSION) {
+                throw new IllegalStateException("잔액 파일 형식이 올바르지 않습니다. file=" + file);
+            }
+            this.slots = header.getLong(SLOTS_OFFSET);
+            this.mask = slots - 1;
+            this.maxSize = (long) (slots * LOAD_FACTOR);
+            this.size = header.getLong(SIZE_OFFSET);
+            this.segments = mapSegments(channel, slots);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 파일을 열 수 없습니다. file=" + file, e);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        throttle(200);
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = read(id);
+        if (!lock.validate(stamp)) {
+            // 읽는 중에 쓰기가 있었으면 read lock 을 잡고 다시 읽는다.
+            stamp = lock.readLock();
+            try {
+                userPoint = read(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        throttle(300);
+        long now = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            write(id, amount, now);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, amount, now);
+    }
+
+    /**
+     * write lock 을 한 번만 잡고 모두 저장한다.
+     */
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        throttle(300);
+        long now = System.currentTimeMillis();
+        List<UserPoint> inserted = new ArrayList<>(balances.size());
+        long stamp = lock.writeLock();
+        try {
+            balances.forEach((id, amount) -> {
+                write(id, amount, now);
+                inserted.add(new UserPoint(id, amount, now));
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return inserted;
+    }
+
+    /**
+     * read lock 을 한 번만 잡고 모두 조회한다.
+     */
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        throttle(200);
+        List<UserPoint> selected = new ArrayList<>(ids.size());
+        long stamp = lock.readLock();
+        try {
+            for (long id : ids) {
+                UserPoint userPoint = read(id);
+                selected.add(userPoint != null ? userPoint : UserPoint.empty(id));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return selected;
+    }
+
+    /**
+     * 잔액이 저장된 사용자 수
+     */
+    public long size() {
+        long stamp = lock.readLock();
+        try {
+            return size + (header.getLong(HAS_ZERO_OFFSET) != 0 ? 1 : 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 잔액이 저장된 사용자인지 확인한다. 슬롯만 확인하므로 저장소 지연(throttle)이 없다.
+     * 재시작 후 내역 없이 잔액만 남은 사용자도 알고 있는 사용자로 보는 데 사용한다. (KnownUserRegistry)
+     */
+    public boolean contains(long id) {
+        long stamp = lock.tryOptimisticRead();
+        boolean contains = read(id) != null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                contains = read(id) != null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return contains;
+    }
+
+    /**
+     * page cache 에 있는 변경 내용을 디스크에 기록한다.
+     * 프로세스가 죽어도 변경 내용은 OS 가 기록하므로, 장비 장애까지 대비할 때만 필요하다.
+     */
+    public void force() {
+        long stamp = lock.readLock();
+        try {
+            header.force();
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // write lock 을 잡은 상태에서만 호출한다.
+    private void write(long id, long amount, long now) {
+        if (id == EMPTY) {
+            header.putLong(ZERO_POINT_OFFSET, amount);
+            header.putLong(ZERO_UPDATE_MILLIS_OFFSET, now);
+            header.putLong(HAS_ZERO_OFFSET, 1);
+            return;
+        }
+        long slot = slotOf(id);
+        if (idAt(slot) == EMPTY) {
+            if (size + 1 > maxSize) {
+                throw new IllegalStateException("잔액 파일의 용량을 초과했습니다. slots=" + slots);
+            }
+            size++;
+            header.putLong(SIZE_OFFSET, size);
+        }
+        // 값을 먼저 쓰고 id 를 마지막에 써서, 중간에 프로세스가 죽어도 id 만 있는 레코드가 남지 않게 한다.
+        MappedByteBuffer segment = segmentOf(slot);
+        int offset = offsetOf(slot);
+        segment.putLong(offset + 8, amount);
+        segment.putLong(offset + 16, now);
+        segment.putLong(offset, id);
+    }
+
+    private UserPoint read(long id) {
+        if (id == EMPTY) {
+            return header.getLong(HAS_ZERO_OFFSET) != 0
+                    ? new UserPoint(id, header.getLong(ZERO_POINT_OFFSET), header.getLong(ZERO_UPDATE_MILLIS_OFFSET))
+                    : null;
+        }
+        long slot = slotOf(id);
+        if (idAt(slot) != id) {
+            return null;
+        }
+        MappedByteBuffer segment = segmentOf(slot);
+        int offset = offsetOf(slot);
+        return new UserPoint(id, segment.getLong(offset + 8), segment.getLong(offset + 16));
+    }
+
+    // id 가 있는 슬롯, 없으면 id 를 넣을 빈 슬롯을 반환한다.
+    private long slotOf(long id) {
+        long slot = UserLockStrategy.mix(id) & mask;
+        for (long probes = 0; probes < slots; probes++) {
+            long current = idAt(slot);
+            if (current == id || current == EMPTY) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private long idAt(long slot) {
+        return segmentOf(slot).getLong(offsetOf(slot));
+    }
+
+    private MappedByteBuffer segmentOf(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offsetOf(long slot) {
+        return (int) (slot & SEGMENT_MASK) * RECORD_BYTES;
+    }
+
+    private static MappedByteBuffer[] mapSegments(FileChannel channel, long slots) throws IOException {
+        int count = (int) ((slots + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long records = Math.min(slots - first, 1L << SEGMENT_SHIFT);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + first * RECORD_BYTES, records * RECORD_BYTES);
+        }
+        return segments;
+    }
+
+    // capacity 명을 LOAD_FACTOR 이하로 담을 수 있는 2의 거듭제곱 슬롯 수
+    private static long slotsFor(long capacity) {
+        long required = (long) Math.ceil(capacity / (double) LOAD_FACTOR);
+        return Math.max(2, Long.highestOneBit(required - 1) << 1);
+    }
+
+    private void throttle(long millis) {
+        if (THROTTLE_DISABLED) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PointService 가 사용하는 포인트 내역 저장소 API
+ * IndexedPointHistoryTable 이 기본 구현이며, 묶음 쓰기 등은 이 API 를 감싸는 방식으로 붙인다.
+ */
+public interface PointHistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 여러 건을 한 번의 쓰기로 저장하고, 입력 순서대로 저장된 내역을 반환한다.
+     */
+    List<PointHistory> insertAll(List<NewPointHistory> histories);
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 조건에 맞는 사용자의 내역을 id 오름차순으로 최대 limit 건 반환한다.
+     * 기본 구현은 전체 내역을 걸러내며, 인덱스를 가진 저장소는 O(limit) 로 구현한다.
+     */
+    default List<PointHistory> selectPageByUserId(long userId, PageQuery query) {
+        return selectAllByUserId(userId).stream()
+                .filter(query::matches)
+                .limit(query.limit())
+                .toList();
+    }
+
+    Set<Long> selectAllUserIds();
+
+    /**
+     * 내역 페이지 조건
+     * - afterId : 이 id 보다 큰 내역부터 (처음 페이지는 0)
+     * - fromMillis / toMillis : updateMillis 범위 (양 끝 포함)
+     * - type : null 이면 모든 유형
+     */
+    record PageQuery(
+            long afterId,
+            long fromMillis,
+            long toMillis,
+            TransactionType type,
+            int limit
+    ) {
+        public boolean matches(PointHistory history) {
+            return history.id() > afterId
+                    && history.updateMillis() >= fromMillis
+                    && history.updateMillis() <= toMillis
+                    && (type == null || history.type() == type);
+        }
+    }
+
+    /**
+     * 아직 id 가 발급되지 않은 내역
+     */
+    record NewPointHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis
+    ) {
+    }
+}
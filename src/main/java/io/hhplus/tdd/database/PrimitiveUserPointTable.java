@@ -0,0 +1,198 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * UserPointTable 과 같은 API 를 가지되, 잔액을 long 배열에 바로 담는 테이블
+ * - id / point / updateMillis 를 같은 인덱스의 세 배열에 저장하는 open addressing(linear probing) 해시 테이블이다.
+ * - boxing 된 Long 키, Map.Entry, UserPoint 객체를 보관하지 않으므로 사용자당 약 32 byte 만 사용한다.
+ * - 조회는 StampedLock 의 optimistic read 로 lock 없이 읽고, 쓰기(와 확장)만 write lock 을 잡는다.
+ */
+public class PrimitiveUserPointTable implements UserPointStore {
+    // -Dhhplus.tdd.throttle.disabled=true 로 실행하면 저장소 지연을 흉내내지 않는다. (벤치마크용)
+    private static final boolean THROTTLE_DISABLED = Boolean.getBoolean("hhplus.tdd.throttle.disabled");
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final float LOAD_FACTOR = 0.75f;
+    // 0 은 빈 슬롯을 뜻하므로 id 0 은 별도 필드에 보관한다.
+    private static final long EMPTY = 0L;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] points = new long[INITIAL_CAPACITY];
+    private long[] updateMillis = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean hasZero;
+    private long zeroPoint;
+    private long zeroUpdateMillis;
+
+    @Override
+    public UserPoint selectById(long id) {
+        throttle(200);
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = read(id);
+        if (!lock.validate(stamp)) {
+            // 읽는 중에 쓰기가 있었으면 read lock 을 잡고 다시 읽는다.
+            stamp = lock.readLock();
+            try {
+                userPoint = read(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        throttle(300);
+        long now = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            write(id, amount, now);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(id, amount, now);
+    }
+
+    /**
+     * write lock 을 한 번만 잡고 모두 저장한다.
+     */
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        throttle(300);
+        long now = System.currentTimeMillis();
+        List<UserPoint> inserted = new ArrayList<>(balances.size());
+        long stamp = lock.writeLock();
+        try {
+            balances.forEach((id, amount) -> {
+                write(id, amount, now);
+                inserted.add(new UserPoint(id, amount, now));
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return inserted;
+    }
+
+    /**
+     * read lock 을 한 번만 잡고 모두 조회한다.
+     */
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        throttle(200);
+        List<UserPoint> selected = new ArrayList<>(ids.size());
+        long stamp = lock.readLock();
+        try {
+            for (long id : ids) {
+                UserPoint userPoint = read(id);
+                selected.add(userPoint != null ? userPoint : UserPoint.empty(id));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return selected;
+    }
+
+    /**
+     * 잔액이 저장된 사용자 수
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size + (hasZero ? 1 : 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // write lock 을 잡은 상태에서만 호출한다.
+    private void write(long id, long amount, long now) {
+        if (id == EMPTY) {
+            hasZero = true;
+            zeroPoint = amount;
+            zeroUpdateMillis = now;
+            return;
+        }
+        if (size + 1 > ids.length * LOAD_FACTOR) {
+            resize(ids.length * 2);
+        }
+        int slot = slotOf(ids, id);
+        if (ids[slot] == EMPTY) {
+            ids[slot] = id;
+            size++;
+        }
+        points[slot] = amount;
+        updateMillis[slot] = now;
+    }
+
+    // lock 을 잡지 않은 상태에서도 호출되므로, 배열은 한 번만 읽어 같은 세대의 배열로 탐색한다.
+    private UserPoint read(long id) {
+        if (id == EMPTY) {
+            return hasZero ? new UserPoint(id, zeroPoint, zeroUpdateMillis) : null;
+        }
+        long[] currentIds = ids;
+        long[] currentPoints = points;
+        long[] currentUpdateMillis = updateMillis;
+        if (currentIds.length != currentPoints.length || currentIds.length != currentUpdateMillis.length) {
+            return null;
+        }
+        int slot = slotOf(currentIds, id);
+        if (currentIds[slot] != id) {
+            return null;
+        }
+        return new UserPoint(id, currentPoints[slot], currentUpdateMillis[slot]);
+    }
+
+    // id 가 있는 슬롯, 없으면 id 를 넣을 빈 슬롯을 반환한다.
+    private static int slotOf(long[] ids, long id) {
+        int mask = ids.length - 1;
+        int slot = UserLockStrategy.spread(id) & mask;
+        for (int probes = 0; probes < ids.length; probes++) {
+            long current = ids[slot];
+            if (current == id || current == EMPTY) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // write lock 없이 읽는 중 배열이 가득 찬 것처럼 보일 수 있다. optimistic read 검증에서 걸러진다.
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] newIds = new long[capacity];
+        long[] newPoints = new long[capacity];
+        long[] newUpdateMillis = new long[capacity];
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != EMPTY) {
+                int slot = slotOf(newIds, ids[i]);
+                newIds[slot] = ids[i];
+                newPoints[slot] = points[i];
+                newUpdateMillis[slot] = updateMillis[i];
+            }
+        }
+        ids = newIds;
+        points = newPoints;
+        updateMillis = newUpdateMillis;
+    }
+
+    private void throttle(long millis) {
+        if (THROTTLE_DISABLED) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 사용자 ID 로 나눈 파티션별 내역 저장소를 하나의 PointHistoryStore 로 보여준다. (point.sharding)
+ * - 사용자 한 명의 내역은 한 파티션에만 있으므로 사용자 단위 조회/저장은 그 파티션만 읽고 쓴다.
+ * - insertAll 은 파티션별로 나눠 저장한 뒤 입력 순서대로 합친다.
+ * - selectAllUserIds 처럼 전체를 읽는 조회는 모든 파티션을 읽어 합친다.
+ */
+public class ShardedPointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryStore[] partitions;
+    private final LongToIntFunction partitioner;
+
+    /**
+     * @param partitioner 사용자 ID 가 속한 파티션 번호 (0 이상 partitions.size() 미만)
+     */
+    public ShardedPointHistoryStore(List<? extends PointHistoryStore> partitions, LongToIntFunction partitioner) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("파티션은 1개 이상 이어야 합니다.");
+        }
+        this.partitions = partitions.toArray(PointHistoryStore[]::new);
+        this.partitioner = partitioner;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return partition(userId).insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+        List<List<NewPointHistory>> batches = new ArrayList<>(partitions.length);
+        List<List<Integer>> indexes = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            batches.add(new ArrayList<>());
+            indexes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < histories.size(); i++) {
+            int partition = partitioner.applyAsInt(histories.get(i).userId());
+            batches.get(partition).add(histories.get(i));
+            indexes.get(partition).add(i);
+        }
+        PointHistory[] inserted = new PointHistory[histories.size()];
+        for (int partition = 0; partition < partitions.length; partition++) {
+            if (batches.get(partition).isEmpty()) {
+                continue;
+            }
+            List<PointHistory> result = partitions[partition].insertAll(batches.get(partition));
+            for (int i = 0; i < result.size(); i++) {
+                inserted[indexes.get(partition).get(i)] = result.get(i);
+            }
+        }
+        return List.of(inserted);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return partition(userId).selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PageQuery query) {
+        return partition(userId).selectPageByUserId(userId, query);
+    }
+
+    @Override
+    public Set<Long> selectAllUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        for (PointHistoryStore partition : partitions) {
+            userIds.addAll(partition.selectAllUserIds());
+        }
+        return Set.copyOf(userIds);
+    }
+
+    private PointHistoryStore partition(long userId) {
+        return partitions[partitioner.applyAsInt(userId)];
+    }
+}
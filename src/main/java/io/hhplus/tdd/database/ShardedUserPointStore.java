@@ -0,0 +1,89 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 사용자 ID 로 나눈 파티션별 잔액 저장소를 하나의 UserPointStore 로 보여준다. (point.sharding)
+ */
+public class ShardedUserPointStore implements UserPointStore {
+
+    private final UserPointStore[] partitions;
+    private final LongToIntFunction partitioner;
+
+    /**
+     * @param partitioner 사용자 ID 가 속한 파티션 번호 (0 이상 partitions.size() 미만)
+     */
+    public ShardedUserPointStore(List<? extends UserPointStore> partitions, LongToIntFunction partitioner) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("파티션은 1개 이상 이어야 합니다.");
+        }
+        this.partitions = partitions.toArray(UserPointStore[]::new);
+        this.partitioner = partitioner;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return partition(id).selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return partition(id).insertOrUpdate(id, amount);
+    }
+
+    /**
+     * 파티션별로 나눠 저장한다.
+     */
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        List<Map<Long, Long>> batches = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            batches.add(new HashMap<>());
+        }
+        balances.forEach((id, amount) -> batches.get(partitioner.applyAsInt(id)).put(id, amount));
+        List<UserPoint> inserted = new ArrayList<>(balances.size());
+        for (int partition = 0; partition < partitions.length; partition++) {
+            if (!batches.get(partition).isEmpty()) {
+                inserted.addAll(partitions[partition].insertAll(batches.get(partition)));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 파티션별로 나눠 조회하고 ids 순서대로 돌려준다.
+     */
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            batches.add(new ArrayList<>());
+        }
+        for (long id : ids) {
+            batches.get(partitioner.applyAsInt(id)).add(id);
+        }
+        Map<Long, UserPoint> selected = new HashMap<>(ids.size() * 2);
+        for (int partition = 0; partition < partitions.length; partition++) {
+            if (!batches.get(partition).isEmpty()) {
+                partitions[partition].selectAllByIds(batches.get(partition))
+                        .forEach(userPoint -> selected.put(userPoint.id(), userPoint));
+            }
+        }
+        List<UserPoint> ordered = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            ordered.add(selected.get(id));
+        }
+        return ordered;
+    }
+
+    private UserPointStore partition(long id) {
+        return partitions[partitioner.applyAsInt(id)];
+    }
+}
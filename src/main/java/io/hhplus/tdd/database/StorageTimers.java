@@ -0,0 +1,20 @@
+package io.hhplus.tdd.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class StorageTimers {
+
+    private StorageTimers() {
+    }
+
+    // Prometheus 에서 histogram_quantile 로 p99 를 구할 수 있도록 histogram bucket 을 내보낸다.
+    static Timer timer(MeterRegistry registry, String store, String method) {
+        return Timer.builder("point.storage")
+                .description("포인트 저장소 호출 지연 시간")
+                .tag("store", store)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
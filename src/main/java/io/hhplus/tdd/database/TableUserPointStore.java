@@ -0,0 +1,26 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 을 공개된 API 만 사용해 UserPointStore 로 감싼다. (point.balance.store: TABLE)
+ * UserPointTable 은 묶음 쓰기 API 가 없으므로 insertAll 은 한 건씩 저장한다.
+ */
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable table;
+
+    public TableUserPointStore(UserPointTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return table.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return table.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장소 호출마다 지연 시간을 point.storage 타이머(store=history, method=...)에 기록한다.
+ * 기동 시 한 번 호출하는 selectAllUserIds 는 기록하지 않는다.
+ */
+public class TimedPointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryStore delegate;
+    private final Timer insert;
+    private final Timer insertAll;
+    private final Timer selectAllByUserId;
+    private final Timer selectPageByUserId;
+
+    public TimedPointHistoryStore(PointHistoryStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.insert = StorageTimers.timer(registry, "history", "insert");
+        this.insertAll = StorageTimers.timer(registry, "history", "insertAll");
+        this.selectAllByUserId = StorageTimers.timer(registry, "history", "selectAllByUserId");
+        this.selectPageByUserId = StorageTimers.timer(registry, "history", "selectPageByUserId");
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insert(userId, amount, type, updateMillis);
+        } finally {
+            insert.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertAll(histories);
+        } finally {
+            insertAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectAllByUserId(userId);
+        } finally {
+            selectAllByUserId.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PageQuery query) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectPageByUserId(userId, query);
+        } finally {
+            selectPageByUserId.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Set<Long> selectAllUserIds() {
+        return delegate.selectAllUserIds();
+    }
+}
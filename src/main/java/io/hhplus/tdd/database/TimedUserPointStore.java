@@ -0,0 +1,71 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소 호출마다 지연 시간을 point.storage 타이머(store=balance, method=...)에 기록한다.
+ * 타이머는 생성할 때 만들어 두므로 호출마다 찾거나 할당하지 않는다.
+ */
+public class TimedUserPointStore implements UserPointStore {
+
+    private final UserPointStore delegate;
+    private final Timer selectById;
+    private final Timer insertOrUpdate;
+    private final Timer insertAll;
+    private final Timer selectAllByIds;
+
+    public TimedUserPointStore(UserPointStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.selectById = StorageTimers.timer(registry, "balance", "selectById");
+        this.insertOrUpdate = StorageTimers.timer(registry, "balance", "insertOrUpdate");
+        this.insertAll = StorageTimers.timer(registry, "balance", "insertAll");
+        this.selectAllByIds = StorageTimers.timer(registry, "balance", "selectAllByIds");
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectById(id);
+        } finally {
+            selectById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(id, amount);
+        } finally {
+            insertOrUpdate.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertAll(balances);
+        } finally {
+            insertAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectAllByIds(ids);
+        } finally {
+            selectAllByIds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
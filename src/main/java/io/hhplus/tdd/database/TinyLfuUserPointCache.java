@@ -0,0 +1,58 @@
+package io.hhplus.tdd.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caffeine(W-TinyLFU)으로 구현한 캐시
+ * 소수의 활성 사용자에게 조회가 몰리는 경우 LRU 보다 적중률이 높다.
+ */
+public class TinyLfuUserPointCache implements UserPointCache {
+
+    private final Cache<Long, UserPoint> cache;
+
+    public TinyLfuUserPointCache(int maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserPoint get(long id) {
+        return cache.getIfPresent(id);
+    }
+
+    @Override
+    public void put(UserPoint userPoint) {
+        cache.asMap().compute(userPoint.id(), (id, current) -> userPoint);
+    }
+
+    @Override
+    public void putIf(UserPoint userPoint, BooleanSupplier condition) {
+        cache.asMap().compute(userPoint.id(), (id, current) -> condition.getAsBoolean() ? userPoint : current);
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public long hits() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long misses() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public long evictions() {
+        return cache.stats().evictionCount();
+    }
+}
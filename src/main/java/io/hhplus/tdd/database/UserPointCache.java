@@ -0,0 +1,48 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 최대 개수가 정해진 UserPoint 캐시
+ * 같은 ID 에 대한 put 과 putIf 는 서로 원자적으로 실행된다.
+ */
+public interface UserPointCache {
+
+    /**
+     * 캐시된 잔액을 반환한다. 없으면 null 이며, 조회 결과는 hit/miss 로 집계된다.
+     */
+    UserPoint get(long id);
+
+    void put(UserPoint userPoint);
+
+    /**
+     * condition 이 참일 때만 잔액을 넣는다. condition 은 같은 ID 의 put 과 겹치지 않게 평가된다.
+     */
+    void putIf(UserPoint userPoint, BooleanSupplier condition);
+
+    long size();
+
+    long hits();
+
+    long misses();
+
+    long evictions();
+
+    /**
+     * 설정(point.balance.cache.policy)으로 선택할 수 있는 eviction 정책
+     * - LRU : 가장 오래 조회되지 않은 항목부터 제거한다.
+     * - W_TINY_LFU : 최근성과 빈도를 함께 보고 제거한다. (Caffeine)
+     */
+    enum Policy {
+        LRU, W_TINY_LFU;
+
+        public UserPointCache create(int maxEntries) {
+            return switch (this) {
+                case LRU -> new LruUserPointCache(maxEntries);
+                case W_TINY_LFU -> new TinyLfuUserPointCache(maxEntries);
+            };
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PointService 가 사용하는 포인트 잔액 저장소 API
+ * UserPointTable 을 감싼 TableUserPointStore 가 기본 구현이며, 캐시 등은 이 API 를 감싸는 방식으로 붙인다.
+ */
+public interface UserPointStore {
+
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+
+    /**
+     * 여러 사용자의 잔액(사용자 ID -> 잔액)을 한 번의 쓰기로 저장하고, 저장된 잔액을 반환한다. (기동 시 복구용)
+     * 기본 구현은 insertOrUpdate 를 차례로 호출한다.
+     */
+    default List<UserPoint> insertAll(Map<Long, Long> balances) {
+        List<UserPoint> inserted = new ArrayList<>(balances.size());
+        balances.forEach((id, amount) -> inserted.add(insertOrUpdate(id, amount)));
+        return inserted;
+    }
+
+    /**
+     * 여러 사용자의 잔액을 ids 순서대로 한 번의 읽기로 조회한다. 잔액이 없는 사용자는 빈 잔액을 반환한다. (스냅샷용)
+     * 기본 구현은 selectById 를 차례로 호출한다.
+     */
+    default List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        List<UserPoint> selected = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            selected.add(selectById(id));
+        }
+        return selected;
+    }
+}
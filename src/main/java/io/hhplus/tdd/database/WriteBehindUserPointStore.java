@@ -0,0 +1,195 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리의 잔액을 기준으로 읽고 쓰며, 저장소에는 나중에 한꺼번에 반영한다. (write-behind)
+ * - 조회는 메모리에서 바로 반환하고, 메모리에 없을 때만 저장소에서 읽어 채운다.
+ * - 변경은 메모리에 반영하고 dirty 로 표시한다. 같은 사용자의 연속된 변경은 마지막 값 하나로 합쳐진다.
+ * - flusher 가 flushInterval 마다 dirty 잔액을 모아 저장소에 한 번의 insertAll 로 반영한다.
+ *   저장소가 동시 쓰기에 안전하다고 가정할 수 없으므로(UserPointTable 은 HashMap) flusher 스레드 하나가 반영한다.
+ */
+public class WriteBehindUserPointStore implements UserPointStore, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindUserPointStore.class);
+
+    private final UserPointStore delegate;
+    private final Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final Map<Long, DirtyPoint> dirty = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private volatile long lastFlushMillis;
+
+    public WriteBehindUserPointStore(UserPointStore delegate, Duration flushInterval) {
+        this.delegate = delegate;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint cached = balances.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        UserPoint loaded = delegate.selectById(id);
+        // 읽는 사이 변경된 값이 있으면 그 값을 우선한다.
+        UserPoint existing = balances.putIfAbsent(id, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        balances.put(id, userPoint);
+        // 이미 dirty 면 값만 바꾸고 처음 dirty 가 된 시각은 유지한다.
+        dirty.merge(id, new DirtyPoint(userPoint, userPoint.updateMillis()),
+                (previous, next) -> new DirtyPoint(next.userPoint(), previous.since()));
+        return userPoint;
+    }
+
+    /**
+     * 저장소에 바로 한 번에 저장하고 메모리 값도 바꾼다. (기동 시 복구용)
+     * 이미 저장소에 반영했으므로 dirty 로 표시하지 않는다.
+     */
+    @Override
+    public List<UserPoint> insertAll(Map<Long, Long> balances) {
+        List<UserPoint> inserted = delegate.insertAll(balances);
+        for (UserPoint userPoint : inserted) {
+            this.balances.put(userPoint.id(), userPoint);
+            dirty.remove(userPoint.id());
+        }
+        return inserted;
+    }
+
+    /**
+     * 메모리에 있는 잔액은 메모리에서, 나머지는 저장소에서 한 번에 읽는다.
+     * 저장소에서 읽은 잔액은 메모리에 올리지 않는다. (모든 사용자를 훑는 조회로 메모리가 늘지 않도록)
+     */
+    @Override
+    public List<UserPoint> selectAllByIds(Collection<Long> ids) {
+        List<UserPoint> selected = new ArrayList<>(ids.size());
+        List<Long> misses = new ArrayList<>();
+        for (long id : ids) {
+            UserPoint cached = balances.get(id);
+            selected.add(cached);
+            if (cached == null) {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return selected;
+        }
+        Map<Long, UserPoint> loaded = new HashMap<>(misses.size() * 2);
+        delegate.selectAllByIds(misses).forEach(userPoint -> loaded.put(userPoint.id(), userPoint));
+        int i = 0;
+        for (long id : ids) {
+            if (selected.get(i) == null) {
+                // 읽는 사이 메모리에 올라온 값이 있으면 그 값을 우선한다.
+                UserPoint cached = balances.get(id);
+                selected.set(i, cached != null ? cached : loaded.get(id));
+            }
+            i++;
+        }
+        return selected;
+    }
+
+    /**
+     * dirty 잔액을 모아 저장소에 한 번의 insertAll 로 반영한다.
+     * 반영하는 동안 다시 바뀐 잔액은 dirty 로 남아 다음 flush 에서 반영된다. 저장에 실패하면 모두 dirty 로 남는다.
+     * flusher 와 close 가 동시에 부르지 않도록 synchronized 로 한 번에 하나만 반영한다.
+     */
+    public synchronized void flush() {
+        Map<Long, DirtyPoint> pending = new HashMap<>(dirty);
+        if (!pending.isEmpty()) {
+            Map<Long, Long> points = new HashMap<>(pending.size() * 2);
+            pending.forEach((id, dirtyPoint) -> points.put(id, dirtyPoint.userPoint().point()));
+            try {
+                delegate.insertAll(points);
+                pending.forEach(dirty::remove);
+            } catch (RuntimeException e) {
+                log.error("포인트 잔액 반영에 실패했습니다. size={}", pending.size(), e);
+            }
+        }
+        lastFlushMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 아직 저장소에 반영되지 않은 사용자 수
+     */
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    /**
+     * 가장 오래 반영되지 않은 잔액이 dirty 로 남아있던 시간(ms), dirty 가 없으면 0
+     */
+    public long flushLagMillis() {
+        long now = System.currentTimeMillis();
+        long oldest = now;
+        for (DirtyPoint pending : dirty.values()) {
+            oldest = Math.min(oldest, pending.since());
+        }
+        return now - oldest;
+    }
+
+    public long lastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.balance.write_behind.dirty", this, WriteBehindUserPointStore::dirtyCount)
+                .description("저장소에 반영되지 않은 잔액 수")
+                .register(registry);
+        Gauge.builder("point.balance.write_behind.flush_lag", this, WriteBehindUserPointStore::flushLagMillis)
+                .description("가장 오래된 dirty 잔액의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    /**
+     * flusher 를 멈추고 남은 dirty 잔액을 모두 반영한다.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("포인트 잔액 flush 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private record DirtyPoint(UserPoint userPoint, long since) {
+    }
+}
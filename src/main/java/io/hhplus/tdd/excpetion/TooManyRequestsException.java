@@ -0,0 +1,15 @@
+package io.hhplus.tdd.excpetion;
+
+public class TooManyRequestsException extends RuntimeException {
+    // 다시 시도해도 되는 시점까지 남은 시간 (알 수 없으면 0)
+    private final long retryAfterMillis;
+
+    public TooManyRequestsException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
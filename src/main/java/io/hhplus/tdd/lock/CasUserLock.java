@@ -0,0 +1,64 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * lock 객체 없이 고정 크기 상태 배열(0: 비어있음, 1: 점유)을 CAS 로 점유한다.
+ * - 점유에 실패하면 잠깐 spin 한 뒤 점점 길게 park 하며 다시 시도한다.
+ * - 대기 큐가 없으므로 공정성(FIFO)은 보장하지 않는다.
+ */
+public class CasUserLock implements UserLockStrategy {
+
+    private static final int FREE = 0;
+    private static final int LOCKED = 1;
+    private static final int SPIN_TRIES = 64;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final AtomicIntegerArray states;
+    private final AtomicIntegerArray waiters;
+    private final int mask;
+
+    public CasUserLock(int slots) {
+        int size = UserLockStrategy.stripesFor(slots);
+        this.states = new AtomicIntegerArray(size);
+        this.waiters = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void lock(long id) {
+        int slot = UserLockStrategy.spread(id) & mask;
+        if (states.compareAndSet(slot, FREE, LOCKED)) {
+            return;
+        }
+        // 대기 큐가 없으므로 기다리는 스레드 수는 따로 센다. (점유에 실패했을 때만)
+        waiters.incrementAndGet(slot);
+        int tries = 0;
+        long parkNanos = 1_000L;
+        while (!states.compareAndSet(slot, FREE, LOCKED)) {
+            if (++tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+            }
+        }
+        waiters.decrementAndGet(slot);
+    }
+
+    @Override
+    public void unlock(long id) {
+        states.set(UserLockStrategy.spread(id) & mask, FREE);
+    }
+
+    @Override
+    public int size() {
+        return states.length();
+    }
+
+    @Override
+    public int queueLength(long id) {
+        return waiters.get(UserLockStrategy.spread(id) & mask);
+    }
+}
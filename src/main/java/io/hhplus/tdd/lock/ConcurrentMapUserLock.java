@@ -0,0 +1,40 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ID 마다 ReentrantLock 을 하나씩 만들어 ConcurrentHashMap 에 보관한다.
+ * 한 번 만든 lock 은 제거하지 않으므로 사용자 수만큼 메모리가 늘어난다.
+ */
+public class ConcurrentMapUserLock implements UserLockStrategy {
+
+    // 각 ID별 Lock을 관리하는 ConcurrentHashMap
+    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void lock(long id) {
+        getLock(id).lock();
+    }
+
+    @Override
+    public void unlock(long id) {
+        getLock(id).unlock();
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+
+    @Override
+    public int queueLength(long id) {
+        ReentrantLock lock = lockMap.get(id);
+        return lock != null ? lock.getQueueLength() : 0;
+    }
+
+    private ReentrantLock getLock(long id) {
+        // ID에 해당하는 Lock이 없으면 새로 생성해서 추가
+        return lockMap.computeIfAbsent(id, k -> new ReentrantLock());
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.lock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongToIntFunction;
+
+/**
+ * lock 경합이 심한 사용자(hot user)를 고정된 메모리로 추적한다.
+ * - minWaitNanos 이상 기다린 lock 획득만 표본으로 기록한다. 경합이 없으면 비교 한 번으로 끝난다.
+ * - 사용자별 경합 횟수와 누적 대기 시간은 Count-Min sketch(depth x width) 로 센다. (실제보다 클 수는 있어도 작지는 않다)
+ * - 누적 대기 시간이 가장 긴 topK 명은 min-heap 으로 유지한다.
+ * - decay() 를 주기적으로 호출하면 모든 값이 절반이 되어, 지금 경합 중인 사용자가 위로 올라온다.
+ */
+public class HotUserTracker implements AutoCloseable {
+
+    private static final int DEPTH = 4;
+    // 행마다 다른 해시를 쓰기 위한 seed
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    /**
+     * hot user 한 명의 경합 정보
+     *
+     * @param contentions minWait 이상 기다린 횟수 (추정치)
+     * @param waitNanos   누적 대기 시간 (추정치)
+     * @param queueLength 지금 lock 을 기다리는 스레드 수
+     */
+    public record HotUser(long userId, long contentions, long waitNanos, int queueLength) {
+    }
+
+    private final int topK;
+    private final int mask;
+    private final long minWaitNanos;
+    private final AtomicLongArray contentions;
+    private final AtomicLongArray waits;
+    // topK 후보 (누적 대기 시간이 가장 작은 사용자가 맨 앞), 경합한 요청에서만 갱신하므로 lock 으로 보호한다.
+    private final PriorityQueue<Candidate> heap;
+    private final Map<Long, Candidate> candidates;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param topK         추적할 사용자 수
+     * @param width        sketch 한 행의 칸 수 (2의 거듭제곱으로 올린다)
+     * @param minWaitNanos 이 시간 이상 기다린 lock 획득만 경합으로 본다.
+     */
+    public HotUserTracker(int topK, int width, long minWaitNanos) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK는 1 이상 이어야 합니다.");
+        }
+        int columns = UserLockStrategy.stripesFor(Math.max(1, width));
+        this.topK = topK;
+        this.mask = columns - 1;
+        this.minWaitNanos = minWaitNanos;
+        this.contentions = new AtomicLongArray(DEPTH * columns);
+        this.waits = new AtomicLongArray(DEPTH * columns);
+        this.heap = new PriorityQueue<>(topK, Comparator.comparingLong(Candidate::waitNanos));
+        this.candidates = new HashMap<>(topK * 2);
+    }
+
+    /**
+     * lock 을 얻기까지 기다린 시간을 기록한다.
+     */
+    public void record(long userId, long waitNanos) {
+        if (waitNanos < minWaitNanos) {
+            return;
+        }
+        long count = Long.MAX_VALUE;
+        long wait = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int cell = cell(row, userId);
+            count = Math.min(count, contentions.incrementAndGet(cell));
+            wait = Math.min(wait, waits.addAndGet(cell, waitNanos));
+        }
+        offer(userId, count, wait);
+    }
+
+    /**
+     * 누적 대기 시간이 긴 순서대로 최대 limit 명을 돌려준다.
+     *
+     * @param queueLength 사용자 ID 로 지금 lock 을 기다리는 스레드 수를 구한다.
+     */
+    public List<HotUser> topUsers(int limit, LongToIntFunction queueLength) {
+        List<Candidate> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(heap);
+        }
+        snapshot.sort(Comparator.comparingLong(Candidate::waitNanos).reversed());
+        int size = Math.max(0, Math.min(limit, snapshot.size()));
+        List<HotUser> hotUsers = new ArrayList<>(size);
+        for (Candidate candidate : snapshot.subList(0, size)) {
+            hotUsers.add(new HotUser(candidate.userId(), candidate.contentions(), candidate.waitNanos(),
+                    queueLength.applyAsInt(candidate.userId())));
+        }
+        return hotUsers;
+    }
+
+    /**
+     * sketch 와 topK 의 값을 모두 절반으로 줄인다. 값이 0 이 된 사용자는 topK 에서 뺀다.
+     */
+    public void decay() {
+        for (int i = 0; i < contentions.length(); i++) {
+            contentions.getAndUpdate(i, value -> value >>> 1);
+            waits.getAndUpdate(i, value -> value >>> 1);
+        }
+        synchronized (this) {
+            List<Candidate> decayed = new ArrayList<>(heap.size());
+            for (Candidate candidate : heap) {
+                if (candidate.waitNanos() >>> 1 > 0) {
+                    decayed.add(new Candidate(candidate.userId(), candidate.contentions() >>> 1, candidate.waitNanos() >>> 1));
+                }
+            }
+            heap.clear();
+            candidates.clear();
+            for (Candidate candidate : decayed) {
+                heap.add(candidate);
+                candidates.put(candidate.userId(), candidate);
+            }
+        }
+    }
+
+    /**
+     * interval 마다 decay 한다.
+     */
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-hot-user-decay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::decay, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private synchronized void offer(long userId, long count, long wait) {
+        Candidate current = candidates.get(userId);
+        if (current != null) {
+            heap.remove(current);
+        } else if (heap.size() == topK) {
+            if (heap.peek().waitNanos() >= wait) {
+                return;
+            }
+            candidates.remove(heap.poll().userId());
+        }
+        Candidate candidate = new Candidate(userId, count, wait);
+        heap.add(candidate);
+        candidates.put(userId, candidate);
+    }
+
+    private int cell(int row, long userId) {
+        long h = (userId + SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+
+    private record Candidate(long userId, long contentions, long waitNanos) {
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.lock;
+
+import java.util.List;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 파티션마다 따로 둔 UserLockStrategy 로 ID 를 나눠 보내는 UserLockStrategy (point.sharding)
+ * 서로 다른 파티션의 사용자는 lock 상태(슬롯, map)를 공유하지 않는다.
+ */
+public class ShardedUserLock implements UserLockStrategy {
+
+    private final UserLockStrategy[] partitions;
+    private final LongToIntFunction partitioner;
+
+    /**
+     * @param partitioner ID 가 속한 파티션 번호 (0 이상 partitions.size() 미만)
+     */
+    public ShardedUserLock(List<UserLockStrategy> partitions, LongToIntFunction partitioner) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("파티션은 1개 이상 이어야 합니다.");
+        }
+        this.partitions = partitions.toArray(UserLockStrategy[]::new);
+        this.partitioner = partitioner;
+    }
+
+    @Override
+    public void lock(long id) {
+        partition(id).lock(id);
+    }
+
+    @Override
+    public void unlock(long id) {
+        partition(id).unlock(id);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (UserLockStrategy partition : partitions) {
+            size += partition.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int queueLength(long id) {
+        return partition(id).queueLength(id);
+    }
+
+    private UserLockStrategy partition(long id) {
+        return partitions[partitioner.applyAsInt(id)];
+    }
+}
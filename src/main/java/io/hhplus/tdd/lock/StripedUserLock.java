@@ -0,0 +1,46 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 개수의 ReentrantLock 에 ID 를 해시로 나눠 담는다.
+ * 사용자 수와 관계없이 lock 개수가 고정이라 메모리가 늘어나지 않는다.
+ */
+public class StripedUserLock implements UserLockStrategy {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedUserLock(int stripes) {
+        int size = UserLockStrategy.stripesFor(stripes);
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void lock(long id) {
+        locks[UserLockStrategy.spread(id) & mask].lock();
+    }
+
+    @Override
+    public void unlock(long id) {
+        locks[UserLockStrategy.spread(id) & mask].unlock();
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    @Override
+    public int size() {
+        return locks.length;
+    }
+
+    @Override
+    public int queueLength(long id) {
+        return locks[UserLockStrategy.spread(id) & mask].getQueueLength();
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * lock 을 얻기까지 기다린 시간을 HotUserTracker 에 기록하는 UserLockStrategy
+ * - 여러 ID 가 lock 을 공유하면(striping) 다른 ID 때문에 기다릴 수도 있으므로,
+ *   같은 ID 를 잡고 있거나 기다리는 스레드가 있었을 때만 그 ID 의 대기로 기록한다.
+ * - queueLength 도 같은 ID 를 기다리는 스레드만 센다.
+ */
+public class TrackingUserLock implements UserLockStrategy {
+
+    private final UserLockStrategy delegate;
+    private final HotUserTracker tracker;
+    // ID 별로 lock 을 잡고 있거나 기다리는 스레드 수, 0 이 되면 지운다.
+    private final ConcurrentHashMap<Long, Integer> active = new ConcurrentHashMap<>();
+
+    public TrackingUserLock(UserLockStrategy delegate, HotUserTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void lock(long id) {
+        boolean contended = active.merge(id, 1, Integer::sum) > 1;
+        long start = System.nanoTime();
+        delegate.lock(id);
+        if (contended) {
+            tracker.record(id, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void unlock(long id) {
+        active.computeIfPresent(id, (key, count) -> count > 1 ? count - 1 : null);
+        delegate.unlock(id);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int queueLength(long id) {
+        Integer count = active.get(id);
+        return count == null ? 0 : count - 1;
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 사용자 ID 단위로 포인트 변경 작업을 직렬화한다.
+ * - 같은 ID 에 대한 lock/unlock 사이 구간은 동시에 하나의 스레드만 실행한다.
+ * - 서로 다른 ID 가 같은 lock 을 공유할 수는 있다. (striping)
+ */
+public interface UserLockStrategy {
+
+    void lock(long id);
+
+    void unlock(long id);
+
+    /**
+     * 보관 중인 lock(슬롯) 수 (point.lock.size 지표)
+     */
+    int size();
+
+    /**
+     * id 의 lock 을 기다리고 있는 스레드 수 (추정치)
+     * 여러 ID 가 lock 을 공유하면(striping) 같은 lock 을 기다리는 다른 ID 의 스레드도 포함된다.
+     */
+    int queueLength(long id);
+
+    /**
+     * 설정(point.lock.type)으로 선택할 수 있는 구현 종류
+     * - MAP : ID 마다 ReentrantLock 을 만들어 보관한다. (사용자 수만큼 메모리가 늘어난다)
+     * - STRIPED : 고정 개수의 ReentrantLock 배열에 ID 를 나눠 담는다.
+     * - CAS : lock 객체 없이 고정 크기 상태 배열을 CAS 로 점유한다.
+     */
+    enum Type {
+        MAP, STRIPED, CAS;
+
+        public UserLockStrategy create(int stripes) {
+            return switch (this) {
+                case MAP -> new ConcurrentMapUserLock();
+                case STRIPED -> new StripedUserLock(stripes);
+                case CAS -> new CasUserLock(stripes);
+            };
+        }
+    }
+
+    /**
+     * stripes 설정이 0 이하일 때 사용할 기본 슬롯 수
+     * 저장소 호출이 수백 ms 동안 lock 을 잡고 있으므로 코어 수보다 넉넉하게 잡아 서로 다른 사용자끼리 기다리는 일을 줄인다.
+     */
+    static int defaultStripes() {
+        return Runtime.getRuntime().availableProcessors() * 64;
+    }
+
+    // 2의 거듭제곱으로 올려 mask 연산으로 슬롯을 고를 수 있게 한다.
+    static int stripesFor(int requested) {
+        int stripes = requested > 0 ? requested : defaultStripes();
+        return stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    // 연속된 ID 가 인접한 슬롯에 몰리지 않도록 비트를 섞는다. (하위 32비트)
+    static int spread(long id) {
+        return (int) mix(id);
+    }
+
+    /**
+     * 연속된 ID 가 한 곳에 몰리지 않도록 비트를 섞는다. (murmur3 fmix64)
+     * ID 로 슬롯을 고르는 lock, 테이블, 잔액 캐시, rate limiter 가 모두 이 함수를 사용한다.
+     */
+    static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec98bL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.mailbox;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 mailbox 에 작업을 쌓고, worker 가 mailbox 단위로 꺼내 실행한다.
+ * - worker 는 고정 크기 플랫폼 스레드 풀이 기본이며, 가상 스레드 executor 를 넘기면 mailbox 마다 가상 스레드에서 처리한다.
+ * - 한 mailbox 는 동시에 하나의 worker 만 처리하므로 같은 사용자의 작업은 들어온 순서대로 하나씩 실행된다. (single writer)
+ * - 호출 스레드는 lock 을 기다리지 않고 CompletableFuture 를 바로 돌려받는다.
+ * - 비어있는 mailbox 는 바로 제거하므로 사용자 수만큼 메모리가 쌓이지 않는다.
+ */
+public class UserMailboxExecutor implements AutoCloseable {
+
+    // 한 번에 처리할 최대 작업 수, 넘으면 다른 mailbox 에 양보한다.
+    private static final int DRAIN_BATCH = 64;
+
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+
+    public UserMailboxExecutor(int workers) {
+        this(PointExecutors.newFixedThreadPool("point-mailbox", workers));
+    }
+
+    /**
+     * workers 에서 mailbox 를 처리한다. close() 하면 workers 도 종료한다.
+     */
+    public UserMailboxExecutor(ExecutorService workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * userId 의 mailbox 에 작업을 넣는다.
+     * 작업이 던진 예외는 감싸지 않고 그대로 future 에 담는다.
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        if (workers.isShutdown()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("mailbox executor가 종료되었습니다."));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        boolean[] schedule = new boolean[1];
+        // mailbox 생성/추가/제거를 모두 같은 key 의 compute 안에서 처리해 제거 직전의 mailbox 에 작업이 버려지지 않도록 한다.
+        Mailbox mailbox = mailboxes.compute(userId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(id);
+            target.tasks.add(task);
+            if (!target.scheduled) {
+                target.scheduled = true;
+                schedule[0] = true;
+            }
+            return target;
+        });
+        if (schedule[0]) {
+            schedule(mailbox);
+        }
+        return future;
+    }
+
+    /**
+     * 처리 대기 중인 mailbox 수
+     */
+    public int pendingMailboxes() {
+        return mailboxes.size();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        try {
+            workers.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 worker 에 넘길 수 없으면 이미 받은 작업을 버리지 않도록 현재 스레드에서 마저 처리한다.
+            drain(mailbox);
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            Runnable task = mailbox.tasks.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+        boolean[] remaining = new boolean[1];
+        mailboxes.computeIfPresent(mailbox.userId, (id, current) -> {
+            if (current.tasks.isEmpty()) {
+                current.scheduled = false;
+                return null;
+            }
+            remaining[0] = true;
+            return current;
+        });
+        if (remaining[0]) {
+            schedule(mailbox);
+        }
+    }
+
+    private static final class Mailbox {
+        private final long userId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // compute 안에서만 읽고 쓴다.
+        private boolean scheduled;
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.lock.HotUserTracker;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * lock 을 가장 오래 기다린 사용자 목록을 보여주는 관리용 endpoint (GET /actuator/hotusers?limit=10)
+ * 누적 대기 시간이 긴 순서이며, 지금 lock 을 기다리는 스레드 수(queueLength)를 함께 보여준다.
+ * lock 을 공유하는(striping) 다른 사용자 때문에 기다린 시간과 스레드는 세지 않는다. (TrackingUserLock)
+ */
+@Endpoint(id = "hotusers")
+public class HotUserEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final HotUserTracker tracker;
+    private final UserLockStrategy userLock;
+
+    public HotUserEndpoint(HotUserTracker tracker, UserLockStrategy userLock) {
+        this.tracker = tracker;
+        this.userLock = userLock;
+    }
+
+    @ReadOperation
+    public List<HotUserTracker.HotUser> hotUsers(@Nullable Integer limit) {
+        return tracker.topUsers(limit != null ? limit : DEFAULT_LIMIT, userLock::queueLength);
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 로 들어온 충전/사용 결과를 보관해, 같은 키로 다시 들어온 요청에는 보관한 결과를 그대로 돌려준다.
+ * - 키는 (사용자 ID, 거래 종류, Idempotency-Key) 단위이며, 같은 키로 금액이 다른 요청은 거절한다.
+ * - 처리 중인 요청도 보관하므로, 첫 요청이 끝나기 전에 들어온 재시도는 같은 결과를 기다린다. (lock 과 테이블에 접근하지 않는다)
+ * - 실패한 요청은 보관하지 않는다. 같은 키로 다시 시도하면 새로 처리한다.
+ * - 보관 용량은 항목 수가 아니라 추정 메모리(maxBytes)로 제한하고, ttl 이 지난 항목은 버린다.
+ */
+public class IdempotencyCache implements MeterBinder {
+
+    static final int MAX_KEY_LENGTH = 255;
+    // 키 문자열을 뺀 항목 하나의 추정 크기 (Key, Entry, CompletableFuture, UserPoint, Caffeine node)
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IdempotencyCache(long maxBytes, Duration ttl) {
+        if (maxBytes < ENTRY_OVERHEAD_BYTES) {
+            throw new IllegalArgumentException("maxBytes는 " + ENTRY_OVERHEAD_BYTES + " 이상 이어야 합니다.");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> weigh(key))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 같은 키로 처리한(또는 처리 중인) 결과가 있으면 그 결과를, 없으면 operation 을 실행한 결과를 돌려준다.
+     */
+    CompletableFuture<UserPoint> execute(long userId, TransactionType type, long amount, String idempotencyKey,
+                                         Supplier<CompletableFuture<UserPoint>> operation) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다."));
+        }
+        Key key = new Key(userId, type, idempotencyKey);
+        Entry entry = new Entry(amount, new CompletableFuture<>());
+        Entry stored = cache.asMap().putIfAbsent(key, entry);
+        if (stored != null) {
+            return replay(stored, amount);
+        }
+        misses.increment();
+        CompletableFuture<UserPoint> result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((userPoint, error) -> {
+            if (error == null) {
+                entry.result().complete(userPoint);
+                return;
+            }
+            cache.asMap().remove(key, entry);
+            entry.result().completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        });
+        return entry.result();
+    }
+
+    /**
+     * 같은 키로 처리한(또는 처리 중인) 결과, 없으면 null
+     * 요청 속도 제한보다 먼저 확인해, 보관한 결과로 답할 재시도가 token 을 쓰지 않게 한다. (PointController)
+     */
+    CompletableFuture<UserPoint> find(long userId, TransactionType type, long amount, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return null;
+        }
+        Entry stored = cache.getIfPresent(new Key(userId, type, idempotencyKey));
+        return stored != null ? replay(stored, amount) : null;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public double hitRatio() {
+        long hits = hits();
+        long requests = hits + misses();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.idempotency.size", this, IdempotencyCache::size)
+                .register(registry);
+        Gauge.builder("point.idempotency.hit_ratio", this, IdempotencyCache::hitRatio)
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.evictions", cache, c -> c.stats().evictionCount())
+                .register(registry);
+    }
+
+    private CompletableFuture<UserPoint> replay(Entry stored, long amount) {
+        hits.increment();
+        if (stored.amount() != amount) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."));
+        }
+        return stored.result();
+    }
+
+    // 키 문자열은 UTF-16 기준(문자당 2 byte)으로 센다.
+    private static int weigh(Key key) {
+        return ENTRY_OVERHEAD_BYTES + key.idempotencyKey().length() * 2;
+    }
+
+    private record Key(long userId, TransactionType type, String idempotencyKey) {
+    }
+
+    private record Entry(long amount, CompletableFuture<UserPoint> result) {
+    }
+}
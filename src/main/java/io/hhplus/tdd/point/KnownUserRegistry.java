@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.lock.UserLockStrategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+
+/**
+ * 포인트 내역이 한 번이라도 생긴 사용자 ID 를 관리한다.
+ * - long 을 그대로 저장하는 open addressing 해시셋이라 조회 시 boxing/할당이 없다.
+ * - 조회는 lock 없이 수행하고, 등록(과 확장)만 동기화한다.
+ * - 사용자 ID 는 1 이상이므로 0 을 빈 슬롯으로 사용한다.
+ * - stored 를 넘기면 힙에 없는 사용자는 stored 로 한 번 더 확인한다. (재시작해도 남아있는 잔액 파일 등)
+ *   stored 가 알고 있는 사용자는 힙에 다시 등록하지 않는다.
+ */
+public class KnownUserRegistry {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final long EMPTY = 0L;
+
+    private volatile AtomicLongArray slots = new AtomicLongArray(INITIAL_CAPACITY);
+    private int size;
+    private final LongPredicate stored;
+
+    public KnownUserRegistry() {
+        this(id -> false);
+    }
+
+    public KnownUserRegistry(LongPredicate stored) {
+        this.stored = stored;
+    }
+
+    /**
+     *  등록된 사용자인지 확인한다.
+     */
+    boolean contains(long id) {
+        AtomicLongArray current = slots;
+        int mask = current.length() - 1;
+        for (int i = UserLockStrategy.spread(id) & mask; ; i = (i + 1) & mask) {
+            long slot = current.get(i);
+            if (slot == id) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return id > 0 && stored.test(id);
+            }
+        }
+    }
+
+    /**
+     *  사용자를 등록한다. 이미 등록된 사용자면 아무 일도 하지 않는다.
+     */
+    void register(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
+        }
+        if (contains(id)) {
+            return;
+        }
+        synchronized (this) {
+            // 적재율이 1/2 을 넘으면 두 배로 늘린다.
+            if ((size + 1) * 2 > slots.length()) {
+                slots = rehash(slots, slots.length() * 2);
+            }
+            if (put(slots, id)) {
+                size++;
+            }
+        }
+    }
+
+    void registerAll(Iterable<Long> ids) {
+        for (long id : ids) {
+            register(id);
+        }
+    }
+
+    int size() {
+        synchronized (this) {
+            return size;
+        }
+    }
+
+    private static boolean put(AtomicLongArray target, long id) {
+        int mask = target.length() - 1;
+        for (int i = UserLockStrategy.spread(id) & mask; ; i = (i + 1) & mask) {
+            long slot = target.get(i);
+            if (slot == id) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                target.set(i, id);
+                return true;
+            }
+        }
+    }
+
+    private static AtomicLongArray rehash(AtomicLongArray source, int capacity) {
+        AtomicLongArray target = new AtomicLongArray(capacity);
+        for (int i = 0; i < source.length(); i++) {
+            long id = source.get(i);
+            if (id != EMPTY) {
+                put(target, id);
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 한 건 (userId 의 포인트를 amount 만큼 충전/사용한다)
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
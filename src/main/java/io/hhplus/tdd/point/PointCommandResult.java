@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+
+/**
+ * 일괄 처리 요청 한 건의 결과
+ * - 성공하면 userPoint 에 처리 후 잔액을, 실패하면 error 에 단건 API 와 같은 에러 코드와 메시지를 담는다.
+ */
+public record PointCommandResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    static PointCommandResult succeeded(PointCommand command, UserPoint userPoint) {
+        return new PointCommandResult(command.userId(), command.type(), command.amount(), userPoint, null);
+    }
+
+    // 요청을 PointCommand 로 읽을 수 없을 때
+    static PointCommandResult invalid() {
+        return new PointCommandResult(0, null, 0, null, new ErrorResponse("400", "요청 형식이 올바르지 않습니다."));
+    }
+
+    // 줄이 maxLineLength byte 를 넘어 읽지 않았을 때 (일괄 적재)
+    static PointCommandResult lineTooLong(int maxLineLength) {
+        return new PointCommandResult(0, null, 0, null,
+                new ErrorResponse("400", "한 줄은 " + maxLineLength + " byte 를 넘을 수 없습니다."));
+    }
+
+    // ApiControllerAdvice 와 같은 기준으로 에러 코드를 정한다.
+    static PointCommandResult failed(PointCommand command, RuntimeException e) {
+        ErrorResponse error;
+        if (e instanceof UserNotFoundException) {
+            error = new ErrorResponse("404", e.getMessage());
+        } else if (e instanceof IllegalArgumentException) {
+            error = new ErrorResponse("400", e.getMessage());
+        } else if (e instanceof TooManyRequestsException) {
+            error = new ErrorResponse("429", e.getMessage());
+        } else {
+            error = new ErrorResponse("500", "에러가 발생했습니다.");
+        }
+        return new PointCommandResult(command.userId(), command.type(), command.amount(), null, error);
+    }
+}
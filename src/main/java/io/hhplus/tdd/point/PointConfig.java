@@ -0,0 +1,432 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.CachingUserPointStore;
+import io.hhplus.tdd.database.GroupCommitPointHistoryStore;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.MappedUserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.database.ShardedPointHistoryStore;
+import io.hhplus.tdd.database.ShardedUserPointStore;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.TimedPointHistoryStore;
+import io.hhplus.tdd.database.TimedUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.WriteBehindUserPointStore;
+import io.hhplus.tdd.lock.HotUserTracker;
+import io.hhplus.tdd.lock.ShardedUserLock;
+import io.hhplus.tdd.lock.TrackingUserLock;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.mailbox.UserMailboxExecutor;
+import io.hhplus.tdd.ratelimit.UserRateLimiter;
+import io.hhplus.tdd.wal.PointSnapshotter;
+import io.hhplus.tdd.wal.PointWriteAheadLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+
+/**
+ * point.* 설정에 따라 PointService 를 조립한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointProperties.class)
+public class PointConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointConfig.class);
+
+    @Bean
+    PointOperations pointService(IndexedPointHistoryTable pointHistoryTable, @Qualifier("userPointStore") UserPointStore userPointTable,
+                                 PointProperties properties,
+                                 ObjectProvider<UserMailboxExecutor> mailbox,
+                                 ObjectProvider<GroupCommitPointHistoryStore> groupCommit,
+                                 ObjectProvider<WriteBehindUserPointStore> writeBehind,
+                                 ObjectProvider<CachingUserPointStore> cache,
+                                 ObjectProvider<PointWriteAheadLog> writeAheadLog,
+                                 ObjectProvider<PointSnapshotter> snapshotter,
+                                 @Qualifier("pointBatchExecutor") ExecutorService batchExecutor,
+                                 @Qualifier("pointStorageExecutor") ExecutorService storageExecutor,
+                                 @Qualifier("pointWriteExecutor") ExecutorService writeExecutor,
+                                 @Qualifier("pointHistoryWriteExecutor") ObjectProvider<ExecutorService> historyWriteExecutor,
+                                 @Qualifier("pointUserLock") UserLockStrategy userLock,
+                                 ObjectProvider<IdempotencyCache> idempotencyCache,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        Gauge.builder("point.lock.size", userLock, UserLockStrategy::size)
+                .description("보관 중인 사용자 lock(슬롯) 수")
+                .register(meterRegistry);
+        if (properties.sharding().enabled()) {
+            return shardedPointService(properties, mailbox, writeAheadLog, snapshotter, batchExecutor,
+                    historyWriteExecutor, userLock, idempotencyCache, meterRegistry, virtualThreads);
+        }
+        PointHistoryStore pointHistoryStore = groupCommit.getIfAvailable();
+        if (pointHistoryStore == null) {
+            pointHistoryStore = pointHistoryTable;
+        }
+        UserPointStore userPointStore = cache.getIfAvailable();
+        if (userPointStore == null) {
+            userPointStore = balanceStore(userPointTable, writeBehind);
+        }
+        // 잔액 파일은 재시작해도 남아있으므로, 내역이 없어도 잔액이 있는 사용자는 알고 있는 사용자로 본다.
+        // 잔액 파일의 ID 를 힙에 옮기지 않고 조회할 때 잔액 파일의 슬롯을 확인한다.
+        KnownUserRegistry knownUserRegistry = userPointTable instanceof MappedUserPointTable mapped
+                ? new KnownUserRegistry(mapped::contains)
+                : new KnownUserRegistry();
+        PointSummaries pointSummaries = new PointSummaries();
+        PointWriteAheadLog log = writeAheadLog.getIfAvailable();
+        PointSnapshotter snapshot = snapshotter.getIfAvailable();
+        if (snapshot != null) {
+            // 마지막 스냅샷을 불러오고 잔액은 그 이후의 로그만, 내역은 보관한 로그부터 모두 replay 한다.
+            snapshot.restore(pointHistoryTable, userPointStore, knownUserRegistry::register);
+            // 스냅샷은 잔액을 캐시, write-behind 를 포함한 가장 바깥의 저장소에서 읽는다.
+            snapshot.start(properties.wal().snapshot().interval(), pointHistoryStore, userPointStore);
+        } else if (log != null) {
+            // 이전 실행에서 남긴 로그로 내역과 잔액을 복구한다.
+            log.recover(pointHistoryTable, userPointStore);
+        }
+        knownUserRegistry.registerAll(pointHistoryStore.selectAllUserIds());
+        pointSummaries.rebuild(pointHistoryStore);
+        Gauge.builder("point.history.rows", pointHistoryTable, IndexedPointHistoryTable::size)
+                .description("저장된 내역 수")
+                .register(meterRegistry);
+        // 복구가 끝난 뒤부터 PointService 가 호출하는 저장소 지연을 기록한다.
+        return PointService.builder(new TimedPointHistoryStore(pointHistoryStore, meterRegistry),
+                        new TimedUserPointStore(userPointStore, meterRegistry))
+                .knownUserRegistry(knownUserRegistry)
+                .userLock(userLock)
+                .mailbox(mailbox.getIfAvailable())
+                .writeAheadLog(log)
+                .batchExecutor(batchExecutor)
+                .pointSummaries(pointSummaries)
+                .storageExecutor(storageExecutor)
+                .historyWriteExecutor(historyWriteExecutor.getIfAvailable())
+                .metrics(new PointMetrics(meterRegistry))
+                .idempotencyCache(idempotencyCache.getIfAvailable())
+                .writeExecutor(writeExecutor)
+                .build();
+    }
+
+    /**
+     * 사용자 ID 로 나눈 파티션마다 잔액/내역 테이블, 사용자 목록, 집계, storage/write 스레드를 따로 둔다. (point.sharding)
+     * - 파티션은 테이블을 바로 사용한다. (잔액 캐시, 내역 group commit, write-behind 는 적용하지 않는다)
+     * - 한 파티션의 잔액 테이블을 여러 write/storage 스레드가 서로 다른 사용자로 동시에 쓰므로,
+     *   store 설정과 관계없이 동시 쓰기에 안전한 PrimitiveUserPointTable 을 사용한다. (UserPointTable 은 HashMap)
+     * - write-ahead log 는 모든 파티션이 함께 쓰며, 복구할 때 사용자별로 파티션에 나눠 담는다.
+     */
+    private ShardedPointService shardedPointService(PointProperties properties,
+                                                    ObjectProvider<UserMailboxExecutor> mailbox,
+                                                    ObjectProvider<PointWriteAheadLog> writeAheadLog,
+                                                    ObjectProvider<PointSnapshotter> snapshotter,
+                                                    ExecutorService batchExecutor,
+                                                    ObjectProvider<ExecutorService> historyWriteExecutor,
+                                                    UserLockStrategy userLock,
+                                                    ObjectProvider<IdempotencyCache> idempotencyCache,
+                                                    MeterRegistry meterRegistry,
+                                                    boolean virtualThreads) {
+        if (mailbox.getIfAvailable() != null) {
+            throw new IllegalStateException("point.sharding 은 MAILBOX 모드와 함께 사용할 수 없습니다.");
+        }
+        if (snapshotter.getIfAvailable() != null) {
+            throw new IllegalStateException("point.sharding 은 point.wal.snapshot 과 함께 사용할 수 없습니다.");
+        }
+        if (properties.balance().store() == PointProperties.Balance.Store.MAPPED) {
+            throw new IllegalStateException("point.sharding 은 MAPPED 잔액 테이블과 함께 사용할 수 없습니다.");
+        }
+        int partitions = ShardedPointService.partitionsFor(properties.sharding().partitions());
+        LongToIntFunction partitioner = id -> ShardedPointService.partitionOf(id, partitions);
+        // 내역 id 는 파티션이 달라도 겹치지 않게 하나의 cursor 로 발급한다.
+        AtomicLong historyCursor = new AtomicLong(1);
+        List<IndexedPointHistoryTable> historyTables = new ArrayList<>(partitions);
+        List<UserPointStore> balanceTables = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            historyTables.add(new IndexedPointHistoryTable(historyCursor));
+            balanceTables.add(new PrimitiveUserPointTable());
+        }
+        PointWriteAheadLog wal = writeAheadLog.getIfAvailable();
+        if (wal != null) {
+            wal.recover(new ShardedPointHistoryStore(historyTables, partitioner), new ShardedUserPointStore(balanceTables, partitioner));
+        }
+        PointProperties.Execution execution = properties.execution();
+        int storageThreads = Math.max(1, execution.storageThreads() / partitions);
+        int writeThreads = Math.max(1, execution.writeThreads() / partitions);
+        int writeQueueCapacity = Math.max(1, execution.writeQueueCapacity() / partitions);
+        PointMetrics metrics = new PointMetrics(meterRegistry);
+        List<PointService> services = new ArrayList<>(partitions);
+        List<ExecutorService> executors = new ArrayList<>(partitions * 2);
+        for (int i = 0; i < partitions; i++) {
+            KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+            knownUserRegistry.registerAll(historyTables.get(i).selectAllUserIds());
+            PointSummaries pointSummaries = new PointSummaries();
+            pointSummaries.rebuild(historyTables.get(i));
+            ExecutorService storageExecutor = PointExecutors.create("point-storage-" + i, storageThreads,
+                    virtualThreads(virtualThreads));
+            ExecutorService writeExecutor = PointExecutors.create("point-write-" + i, writeThreads, writeQueueCapacity,
+                    virtualThreads(virtualThreads));
+            executors.add(storageExecutor);
+            executors.add(writeExecutor);
+            services.add(PointService.builder(new TimedPointHistoryStore(historyTables.get(i), meterRegistry),
+                            new TimedUserPointStore(balanceTables.get(i), meterRegistry))
+                    .knownUserRegistry(knownUserRegistry)
+                    .userLock(userLock)
+                    .writeAheadLog(wal)
+                    .batchExecutor(batchExecutor)
+                    .pointSummaries(pointSummaries)
+                    .storageExecutor(storageExecutor)
+                    .historyWriteExecutor(historyWriteExecutor.getIfAvailable())
+                    .metrics(metrics)
+                    .idempotencyCache(idempotencyCache.getIfAvailable())
+                    .writeExecutor(writeExecutor)
+                    .build());
+        }
+        // 사용하지 않는 IndexedPointHistoryTable 빈 대신 파티션 테이블의 내역 수를 더한다.
+        Gauge.builder("point.history.rows", historyTables,
+                        tables -> tables.stream().mapToLong(IndexedPointHistoryTable::size).sum())
+                .description("저장된 내역 수")
+                .register(meterRegistry);
+        log.info("포인트 처리를 {}개 파티션으로 나눕니다. storageThreads={}, writeThreads={}", partitions, storageThreads, writeThreads);
+        return new ShardedPointService(services, executors);
+    }
+
+    /**
+     * 사용자 lock (point.lock), contention.enabled 이면 lock 대기 시간을 HotUserTracker 에 기록한다.
+     * point.sharding 을 켰으면 파티션마다 lock 을 따로 두고 ID 가 속한 파티션의 lock 을 사용한다.
+     */
+    @Bean
+    UserLockStrategy pointUserLock(PointProperties properties, HotUserTracker hotUserTracker) {
+        PointProperties.Lock lock = properties.lock();
+        if (!properties.sharding().enabled()) {
+            return userLock(lock, hotUserTracker);
+        }
+        int partitions = ShardedPointService.partitionsFor(properties.sharding().partitions());
+        List<UserLockStrategy> locks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            locks.add(userLock(lock, hotUserTracker));
+        }
+        return new ShardedUserLock(locks, id -> ShardedPointService.partitionOf(id, partitions));
+    }
+
+    @Bean
+    HotUserTracker hotUserTracker(PointProperties properties) {
+        PointProperties.Contention contention = properties.lock().contention();
+        HotUserTracker tracker = new HotUserTracker(contention.topK(), contention.width(), contention.minWait().toNanos());
+        if (contention.enabled()) {
+            tracker.start(contention.decayInterval());
+        }
+        return tracker;
+    }
+
+    @Bean
+    HotUserEndpoint hotUserEndpoint(HotUserTracker hotUserTracker, @Qualifier("pointUserLock") UserLockStrategy userLock) {
+        return new HotUserEndpoint(hotUserTracker, userLock);
+    }
+
+    /**
+     * 충전/사용 요청의 사용자별 속도/동시 처리 제한 (point.rate-limit), 일괄 처리와 import 는 제한하지 않는다.
+     */
+    @Bean
+    UserRateLimiter userRateLimiter(PointProperties properties) {
+        PointProperties.RateLimit rateLimit = properties.rateLimit();
+        if (!rateLimit.enabled()) {
+            return UserRateLimiter.unlimited();
+        }
+        return new UserRateLimiter(rateLimit.slots(), rateLimit.permitsPerSecond(), rateLimit.burst(), rateLimit.maxInFlight());
+    }
+
+    @Bean
+    PointImporter pointImporter(PointOperations pointService, ObjectMapper objectMapper, PointProperties properties,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        PointProperties.BulkImport bulkImport = properties.bulkImport();
+        return new PointImporter(pointService, objectMapper, bulkImport.window(),
+                Math.toIntExact(bulkImport.maxLineLength().toBytes()),
+                PointExecutors.create("point-import", bulkImport.workers(), virtualThreads(virtualThreads)));
+    }
+
+    /**
+     * 적재 요청(POST /point/import)을 처리하는 MVC 비동기 스레드 (point.bulk-import.requests, queue-capacity)
+     * 적재 요청은 timeout 까지 스레드를 오래 잡고 있으므로, 스트리밍 응답(pointStreamingExecutor)과 스레드를 나눠 쓰지 않는다.
+     */
+    @Bean
+    ThreadPoolTaskExecutor pointImportExecutor(PointProperties properties) {
+        PointProperties.BulkImport bulkImport = properties.bulkImport();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, bulkImport.requests()));
+        executor.setMaxPoolSize(Math.max(1, bulkImport.requests()));
+        executor.setQueueCapacity(bulkImport.queueCapacity());
+        executor.setThreadNamePrefix("point-import-request-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * StreamingResponseBody 를 쓰는 MVC 비동기 스레드 (point.execution.streaming-*)
+     * 포인트 executor 빈이 있으면 Spring Boot 가 applicationTaskExecutor 를 만들지 않아 MVC 가 응답마다 스레드를 새로 만들므로,
+     * 크기와 대기열을 제한한 풀을 직접 지정한다.
+     */
+    @Bean
+    ThreadPoolTaskExecutor pointStreamingExecutor(PointProperties properties) {
+        PointProperties.Execution execution = properties.execution();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, execution.streamingThreads()));
+        executor.setMaxPoolSize(Math.max(1, execution.streamingThreads()));
+        executor.setQueueCapacity(execution.streamingQueueCapacity());
+        executor.setThreadNamePrefix("point-streaming-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    WebMvcConfigurer pointAsyncSupport(@Qualifier("pointStreamingExecutor") ThreadPoolTaskExecutor streamingExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(streamingExecutor);
+            }
+        };
+    }
+
+    @Bean
+    ExecutorService pointBatchExecutor(PointProperties properties,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return PointExecutors.create("point-batch", Math.max(1, properties.execution().batchThreads()),
+                virtualThreads(virtualThreads));
+    }
+
+    @Bean
+    ExecutorService pointStorageExecutor(PointProperties properties,
+                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return PointExecutors.create("point-storage", Math.max(1, properties.execution().storageThreads()),
+                virtualThreads(virtualThreads));
+    }
+
+    /**
+     * LOCK 모드의 비동기 충전/사용 스레드 (point.execution.write-*)
+     * 사용자 lock 을 기다리는 동안 스레드를 잡고 있으므로, 조회가 쓰는 storage executor 와 따로 두고 대기열을 제한한다.
+     */
+    @Bean
+    ExecutorService pointWriteExecutor(PointProperties properties,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        PointProperties.Execution execution = properties.execution();
+        return PointExecutors.create("point-write", Math.max(1, execution.writeThreads()), execution.writeQueueCapacity(),
+                virtualThreads(virtualThreads));
+    }
+
+    /**
+     * 충전/사용 시 잔액 저장과 동시에 내역을 저장하는 스레드 (point.execution.parallel-writes)
+     * storage 스레드에서 처리 중인 요청이 기다리므로 storage executor 와 따로 둔다. (같이 쓰면 서로를 기다리다 멈출 수 있다)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "point.execution.parallel-writes", havingValue = "true")
+    ExecutorService pointHistoryWriteExecutor(PointProperties properties,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return PointExecutors.create("point-history-write", Math.max(1, properties.execution().storageThreads()),
+                virtualThreads(virtualThreads));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.execution.mode", havingValue = "MAILBOX")
+    UserMailboxExecutor userMailboxExecutor(PointProperties properties,
+                                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new UserMailboxExecutor(PointExecutors.create("point-mailbox", properties.execution().workers(),
+                virtualThreads(virtualThreads)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+    IdempotencyCache idempotencyCache(PointProperties properties) {
+        PointProperties.Idempotency idempotency = properties.idempotency();
+        return new IdempotencyCache(idempotency.maxSize().toBytes(), idempotency.ttl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.history.group-commit.enabled", havingValue = "true", matchIfMissing = true)
+    GroupCommitPointHistoryStore groupCommitPointHistoryStore(IndexedPointHistoryTable pointHistoryTable,
+                                                              PointProperties properties) {
+        PointProperties.GroupCommit groupCommit = properties.history().groupCommit();
+        return new GroupCommitPointHistoryStore(pointHistoryTable, groupCommit.window(), groupCommit.maxBatchSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.balance.write-behind.enabled", havingValue = "true")
+    WriteBehindUserPointStore writeBehindUserPointStore(@Qualifier("userPointStore") UserPointStore userPointTable,
+                                                        PointProperties properties) {
+        PointProperties.WriteBehind writeBehind = properties.balance().writeBehind();
+        return new WriteBehindUserPointStore(userPointTable, writeBehind.flushInterval());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.balance.cache.enabled", havingValue = "true", matchIfMissing = true)
+    CachingUserPointStore cachingUserPointStore(@Qualifier("userPointStore") UserPointStore userPointTable,
+                                                PointProperties properties,
+                                                ObjectProvider<WriteBehindUserPointStore> writeBehind) {
+        PointProperties.Cache cache = properties.balance().cache();
+        return new CachingUserPointStore(balanceStore(userPointTable, writeBehind), cache.policy().create(cache.maxEntries()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.wal.enabled", havingValue = "true")
+    PointWriteAheadLog pointWriteAheadLog(PointProperties properties) {
+        PointProperties.Wal wal = properties.wal();
+        return new PointWriteAheadLog(wal.file(), wal.fsync(), wal.interval(), wal.everyRecords());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "point.wal.snapshot.enabled", havingValue = "true")
+    PointSnapshotter pointSnapshotter(PointWriteAheadLog pointWriteAheadLog, PointProperties properties) {
+        return new PointSnapshotter(properties.wal().snapshot().file(), pointWriteAheadLog);
+    }
+
+    /**
+     * 캐시/write-behind 아래에 놓이는 잔액 테이블 (point.balance.store)
+     */
+    @Bean
+    UserPointStore userPointStore(UserPointTable userPointTable, PointProperties properties) {
+        return switch (properties.balance().store()) {
+            case TABLE -> new TableUserPointStore(userPointTable);
+            case PRIMITIVE -> new PrimitiveUserPointTable();
+            case MAPPED -> {
+                PointProperties.Mapped mapped = properties.balance().mapped();
+                yield new MappedUserPointTable(mapped.file(), mapped.capacity());
+            }
+        };
+    }
+
+    private static UserLockStrategy userLock(PointProperties.Lock lock, HotUserTracker hotUserTracker) {
+        UserLockStrategy userLock = lock.type().create(lock.stripes());
+        return lock.contention().enabled() ? new TrackingUserLock(userLock, hotUserTracker) : userLock;
+    }
+
+    // spring.threads.virtual.enabled 를 켰어도 Java 21 미만이면 (Spring Boot 와 마찬가지로) 플랫폼 스레드를 사용한다.
+    private static boolean virtualThreads(boolean enabled) {
+        if (enabled && !PointExecutors.virtualThreadsSupported()) {
+            log.warn("가상 스레드는 Java 21 이상에서 사용할 수 있어 플랫폼 스레드로 처리합니다. java.version={}",
+                    System.getProperty("java.version"));
+            return false;
+        }
+        return enabled;
+    }
+
+    // 캐시 아래에 놓일 잔액 저장소 (write-behind 를 켰으면 write-behind, 아니면 테이블)
+    private static UserPointStore balanceStore(UserPointStore userPointTable, ObjectProvider<WriteBehindUserPointStore> writeBehind) {
+        UserPointStore writeBehindStore = writeBehind.getIfAvailable();
+        return writeBehindStore != null ? writeBehindStore : userPointTable;
+    }
+}
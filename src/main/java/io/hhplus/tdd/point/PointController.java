@@ -1,63 +1,173 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ratelimit.UserRateLimiter;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
-    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
-    private final UserPointTable userPointTable = new UserPointTable();
-    private final PointService pointService =new PointService(pointHistoryTable, userPointTable);
+    // 재시도한 충전/사용 요청을 알아보는 헤더, 같은 키로 다시 보내면 처음 결과를 그대로 돌려준다.
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private final PointOperations pointService;
+    private final PointImporter pointImporter;
+    private final PointHistoryJsonWriter pointHistoryJsonWriter;
+    // 충전/사용 요청을 사용자별로 제한한다. 넘치면 스레드를 잡아두지 않고 바로 429 로 거절한다.
+    private final UserRateLimiter userRateLimiter;
+    // 같은 Idempotency-Key 의 재시도는 요청 속도 제한보다 먼저 보관한 결과로 답한다. (null 이면 point.idempotency 를 껐다)
+    private final IdempotencyCache idempotencyCache;
+    // import 요청에만 적용하는 비동기 timeout (point.bulk-import.timeout)
+    private final Duration importTimeout;
+    // import 요청을 처리하는 스레드, 스트리밍 응답 스레드와 따로 둔다.
+    private final AsyncTaskExecutor importExecutor;
+
+    public PointController(PointOperations pointService, PointImporter pointImporter, ObjectMapper objectMapper,
+                           UserRateLimiter userRateLimiter, PointProperties properties,
+                           @Qualifier("pointImportExecutor") AsyncTaskExecutor importExecutor,
+                           ObjectProvider<IdempotencyCache> idempotencyCache) {
+        this.pointService = pointService;
+        this.pointImporter = pointImporter;
+        this.pointHistoryJsonWriter = new PointHistoryJsonWriter(objectMapper);
+        this.userRateLimiter = userRateLimiter;
+        this.importTimeout = properties.bulkImport().timeout();
+        this.importExecutor = importExecutor;
+        this.idempotencyCache = idempotencyCache.getIfAvailable();
+    }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public ResponseEntity<UserPoint> point(
+    public CompletableFuture<ResponseEntity<UserPoint>> point(
             @PathVariable long id
     ) {
-        return ResponseEntity.ok(pointService.getUserPoint(id));
+        return pointService.getUserPointAsync(id).thenApply(ResponseEntity::ok);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * 내역을 저장소에서 chunk 단위로 읽으면서 JSON 배열로 바로 내보낸다.
      */
     @GetMapping("{id}/histories")
-    public ResponseEntity<List<PointHistory>> history(
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> history(
             @PathVariable long id
     ) {
-        return ResponseEntity.ok(pointService.getPointHistory(id));
+        // 사용자 확인은 응답을 시작하기 전에 끝내므로 404/400 은 그대로 ApiControllerAdvice 가 처리한다.
+        return pointService.streamPointHistoryAsync(id).thenApply(chunks -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> pointHistoryJsonWriter.writeArray(chunks, output)));
+    }
+
+    /**
+     * 특정 유저의 포인트 누적 집계(충전/사용 합계와 건수, 첫/마지막 거래 시각)를 조회한다.
+     */
+    @GetMapping("{id}/summary")
+    public ResponseEntity<PointSummary> summary(
+            @PathVariable long id
+    ) {
+        return ResponseEntity.ok(pointService.getPointSummary(id));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 cursor 이후부터 한 페이지씩 조회한다.
+     * from/to 는 updateMillis 범위(양 끝 포함), type 은 CHARGE | USE 이다.
+     */
+    @GetMapping("{id}/histories/page")
+    public ResponseEntity<PointHistoryPage> historyPage(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(pointService.getPointHistoryPage(id, cursor, from, to, type, size));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/charge")
-    public ResponseEntity<UserPoint> charge(
+    public CompletableFuture<ResponseEntity<UserPoint>> charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        return ResponseEntity.ok(pointService.chargePoint(id, amount));
+        return limit(id, TransactionType.CHARGE, amount, idempotencyKey,
+                () -> pointService.chargePointAsync(id, amount, idempotencyKey))
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/use")
-    public ResponseEntity<UserPoint> use(
+    public CompletableFuture<ResponseEntity<UserPoint>> use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-       return ResponseEntity.ok(pointService.usePoint(id, amount));
+       return limit(id, TransactionType.USE, amount, idempotencyKey,
+               () -> pointService.usePointAsync(id, amount, idempotencyKey))
+               .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리한다. 요청 순서대로 건별 결과를 돌려준다.
+     */
+    @PostMapping("batch")
+    public CompletableFuture<ResponseEntity<List<PointCommandResult>>> batch(
+            @RequestBody List<PointCommand> commands
+    ) {
+        return pointService.applyAllAsync(commands).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * NDJSON 으로 들어온 충전/사용 요청을 한 줄씩 읽어 처리하고, 줄마다 결과를 NDJSON 으로 바로 돌려준다.
+     * 적재는 오래 걸릴 수 있으므로 WebAsyncTask 로 이 요청에만 긴 timeout(point.bulk-import.timeout)을 두고,
+     * 스트리밍 응답을 막지 않도록 적재 전용 스레드(pointImportExecutor)에서 처리한다.
+     */
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> importCommands(
+            InputStream body,
+            HttpServletResponse response
+    ) {
+        return new WebAsyncTask<>(importTimeout.toMillis(), importExecutor, () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            long imported = pointImporter.importCommands(body, response.getOutputStream());
+            log.info("포인트 일괄 적재를 마쳤습니다. lines={}", imported);
+            return null;
+        });
+    }
+
+    // 같은 Idempotency-Key 로 처리한(처리 중인) 결과가 있으면 요청 속도 제한을 거치지 않고 그 결과를 돌려준다.
+    private CompletableFuture<UserPoint> limit(long id, TransactionType type, long amount, String idempotencyKey,
+                                               Supplier<CompletableFuture<UserPoint>> operation) {
+        if (idempotencyKey != null && idempotencyCache != null) {
+            CompletableFuture<UserPoint> stored = idempotencyCache.find(id, type, amount, idempotencyKey);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        return userRateLimiter.execute(id, operation);
     }
 }
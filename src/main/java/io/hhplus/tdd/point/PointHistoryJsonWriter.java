@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 포인트 내역을 chunk 단위로 받아 JSON 배열로 바로 내보낸다.
+ * - 전체 목록이나 전체 응답 본문을 메모리에 만들지 않으므로, 첫 바이트까지의 시간과 최대 힙 사용량이 내역 수와 관계없다.
+ * - 출력은 chunk 를 다 쓸 때마다 flush 한다.
+ */
+public class PointHistoryJsonWriter {
+
+    private final ObjectMapper objectMapper;
+    // 건마다 flush 하지 않고 chunk 단위로 flush 한다.
+    private final ObjectWriter historyWriter;
+
+    public PointHistoryJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.historyWriter = objectMapper.writerFor(PointHistory.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * chunks 를 끝까지 읽어 [ {...}, {...} ] 형식으로 output 에 쓴다. output 은 닫지 않는다.
+     */
+    public void writeArray(Iterator<List<PointHistory>> chunks, OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            while (chunks.hasNext()) {
+                for (PointHistory history : chunks.next()) {
+                    historyWriter.writeValue(generator, history);
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지
+ * - histories : id 오름차순 내역
+ * - nextCursor : 다음 페이지를 조회할 때 cursor 로 넘길 값, 마지막 페이지면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * NDJSON 요청 한 줄의 처리 결과 (line 은 1부터 시작하는 요청의 줄 번호)
+ */
+public record PointImportResult(
+        long line,
+        PointCommandResult result
+) {
+}
@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.mailbox.UserMailboxExecutor;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * NDJSON(한 줄에 PointCommand 하나) 요청을 한 줄씩 읽어 처리하고, 줄마다 결과를 NDJSON 으로 바로 내보낸다.
+ * - 같은 사용자의 요청은 읽은 순서대로, 서로 다른 사용자의 요청은 동시에 처리한다.
+ * - 처리 중인 줄은 최대 window 개이며, 가득 차면 가장 먼저 읽은 줄이 끝날 때까지 다음 줄을 읽지 않는다.
+ *   요청 전체를 메모리에 올리지 않으므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 한 줄은 maxLineLength byte 까지만 읽는다. 넘는 줄은 줄 끝까지 건너뛰고 그 줄의 결과로 400 을 내보낸다.
+ * - 결과는 읽은 순서대로 내보낸다.
+ */
+public class PointImporter implements AutoCloseable {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final PointOperations pointService;
+    private final ObjectMapper objectMapper;
+    private final int window;
+    private final int maxLineLength;
+    // 같은 사용자의 요청을 순서대로 처리한다. 실제 충전/사용은 PointService 의 lock(또는 mailbox) 안에서 이루어진다.
+    private final UserMailboxExecutor workers;
+
+    public PointImporter(PointOperations pointService, ObjectMapper objectMapper, int window, int maxLineLength,
+                         int workers) {
+        this(pointService, objectMapper, window, maxLineLength,
+                PointExecutors.newFixedThreadPool("point-import", workers));
+    }
+
+    public PointImporter(PointOperations pointService, ObjectMapper objectMapper, int window, int maxLineLength,
+                         ExecutorService workers) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window는 1 이상 이어야 합니다.");
+        }
+        if (maxLineLength < 1) {
+            throw new IllegalArgumentException("maxLineLength는 1 이상 이어야 합니다.");
+        }
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.window = window;
+        this.maxLineLength = maxLineLength;
+        this.workers = new UserMailboxExecutor(workers);
+    }
+
+    /**
+     * input 을 끝까지 읽어 처리하고, 줄마다 PointImportResult 를 output 에 쓴다. 빈 줄은 건너뛴다.
+     *
+     * @return 처리한 줄 수
+     */
+    public long importCommands(InputStream input, OutputStream output) throws IOException {
+        LineReader reader = new LineReader(input, maxLineLength);
+        Deque<CompletableFuture<PointImportResult>> inFlight = new ArrayDeque<>(window);
+        long lineNumber = 0;
+        long imported = 0;
+        while (reader.next()) {
+            lineNumber++;
+            if (!reader.tooLong && reader.isBlank()) {
+                continue;
+            }
+            if (inFlight.size() == window) {
+                write(inFlight.removeFirst(), output);
+            }
+            inFlight.addLast(reader.tooLong
+                    ? CompletableFuture.completedFuture(
+                            new PointImportResult(lineNumber, PointCommandResult.lineTooLong(maxLineLength)))
+                    : submit(lineNumber, reader.line, reader.length));
+            imported++;
+        }
+        while (!inFlight.isEmpty()) {
+            write(inFlight.removeFirst(), output);
+        }
+        output.flush();
+        return imported;
+    }
+
+    @Override
+    public void close() {
+        workers.close();
+    }
+
+    // line 은 다음 줄을 읽을 때 다시 쓰므로 여기서 PointCommand 로 읽어둔다.
+    private CompletableFuture<PointImportResult> submit(long lineNumber, byte[] line, int length) throws IOException {
+        PointCommand command;
+        try {
+            command = objectMapper.readValue(line, 0, length, PointCommand.class);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.completedFuture(new PointImportResult(lineNumber, PointCommandResult.invalid()));
+        }
+        return workers.submit(command.userId(),
+                () -> new PointImportResult(lineNumber, pointService.applyCommand(command)));
+    }
+
+    private void write(CompletableFuture<PointImportResult> result, OutputStream output) throws IOException {
+        if (!result.isDone()) {
+            // 기다리는 동안 지금까지의 결과를 먼저 내보낸다.
+            output.flush();
+        }
+        output.write(objectMapper.writeValueAsBytes(result.join()));
+        output.write(NEW_LINE);
+    }
+
+    /**
+     * 요청 본문을 한 줄씩 읽는다. (BufferedReader.readLine 과 같이 줄 끝의 \r\n, \n 을 뗀다)
+     * 줄은 maxLineLength byte 의 버퍼 하나에 담으며, 넘는 줄은 담지 않고 줄 끝까지 건너뛴다.
+     */
+    private static class LineReader {
+        private final InputStream input;
+        private final byte[] line;
+        private int length;
+        private boolean tooLong;
+
+        LineReader(InputStream input, int maxLineLength) {
+            this.input = new BufferedInputStream(input, 1 << 16);
+            this.line = new byte[maxLineLength];
+        }
+
+        // 다음 줄을 읽는다. 더 읽을 줄이 없으면 false
+        boolean next() throws IOException {
+            length = 0;
+            tooLong = false;
+            int read = input.read();
+            if (read == -1) {
+                return false;
+            }
+            while (read != -1 && read != NEW_LINE) {
+                if (length < line.length) {
+                    line[length++] = (byte) read;
+                } else {
+                    tooLong = true;
+                }
+                read = input.read();
+            }
+            if (!tooLong && length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            return true;
+        }
+
+        boolean isBlank() {
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(line[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
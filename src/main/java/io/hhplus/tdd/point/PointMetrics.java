@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 연산별 지연 시간과 검증 규칙별 거절 횟수
+ * - point.operation : 연산 처리 시간 (사용자 lock 안의 검증과 저장소 호출 포함)
+ * - point.operation.lock_wait : 사용자 lock 을 얻을 때까지 기다린 시간 (charge, use)
+ * - point.operation.validation : 저장소를 읽기 전 요청 검증에 걸린 시간
+ * - point.rejections : 검증 규칙(rule)별 거절 횟수
+ * 타이머는 생성할 때 만들어 배열에 두므로, 기록할 때 이름/태그로 찾거나 할당하지 않는다.
+ * 저장소 호출별 지연은 TimedUserPointStore / TimedPointHistoryStore 가 기록한다.
+ */
+class PointMetrics {
+
+    enum Operation {
+        CHARGE(true), USE(true), GET_POINT(false), GET_HISTORY(false);
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+        // 사용자 lock 을 잡는 연산
+        final boolean locked;
+
+        Operation(boolean locked) {
+            this.locked = locked;
+        }
+    }
+
+    enum Rule {
+        INVALID_ID, USER_NOT_FOUND, AMOUNT_BELOW_MIN, AMOUNT_ABOVE_MAX, BALANCE_LIMIT_EXCEEDED, INSUFFICIENT_BALANCE;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final MeterRegistry registry;
+    private final Timer[] processing;
+    private final Timer[] lockWait;
+    private final Timer[] validation;
+    // 거절은 드물고 연산마다 가능한 규칙이 다르므로, 처음 거절할 때 만든다.
+    private final Counter[][] rejections;
+
+    PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Operation[] operations = Operation.values();
+        this.processing = new Timer[operations.length];
+        this.lockWait = new Timer[operations.length];
+        this.validation = new Timer[operations.length];
+        this.rejections = new Counter[operations.length][Rule.values().length];
+        for (Operation operation : operations) {
+            processing[operation.ordinal()] = timer(registry, "point.operation", "포인트 연산 처리 시간", operation);
+            if (operation.locked) {
+                lockWait[operation.ordinal()] = timer(registry, "point.operation.lock_wait", "사용자 lock 대기 시간", operation);
+            }
+            validation[operation.ordinal()] = timer(registry, "point.operation.validation", "요청 검증 시간", operation);
+        }
+    }
+
+    /**
+     * 아무 곳에도 내보내지 않는 지표 (설정 없이 만든 PointService 용)
+     */
+    static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    void processed(Operation operation, long nanos) {
+        processing[operation.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void lockWaited(Operation operation, long nanos) {
+        lockWait[operation.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void validated(Operation operation, long nanos) {
+        validation[operation.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 거절 횟수를 세고 exception 을 그대로 돌려준다. (throw metrics.rejected(...) 로 사용한다)
+     */
+    <E extends RuntimeException> E rejected(Operation operation, Rule rule, E exception) {
+        Counter counter = rejections[operation.ordinal()][rule.ordinal()];
+        if (counter == null) {
+            // 동시에 처음 거절해도 registry 가 같은 counter 를 돌려주므로 한쪽 값이 덮어써져도 된다.
+            counter = Counter.builder("point.rejections")
+                    .description("검증 규칙별 요청 거절 횟수")
+                    .tag("operation", operation.tag)
+                    .tag("rule", rule.tag)
+                    .register(registry);
+            rejections[operation.ordinal()][rule.ordinal()] = counter;
+        }
+        counter.increment();
+        return exception;
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, Operation operation) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", operation.tag)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController 와 PointImporter 가 사용하는 포인트 조회/충전/사용 API
+ * PointService 가 기본 구현이며, ShardedPointService 는 요청을 파티션별 PointService 에 나눠 맡긴다. (point.sharding)
+ */
+public interface PointOperations {
+
+    UserPoint getUserPoint(long id) throws RuntimeException;
+
+    CompletableFuture<UserPoint> getUserPointAsync(long id);
+
+    UserPoint chargePoint(long id, long amount) throws RuntimeException;
+
+    CompletableFuture<UserPoint> chargePointAsync(long id, long amount);
+
+    CompletableFuture<UserPoint> chargePointAsync(long id, long amount, String idempotencyKey);
+
+    UserPoint usePoint(long id, long amount) throws RuntimeException;
+
+    CompletableFuture<UserPoint> usePointAsync(long id, long amount);
+
+    CompletableFuture<UserPoint> usePointAsync(long id, long amount, String idempotencyKey);
+
+    CompletableFuture<List<PointCommandResult>> applyAllAsync(List<PointCommand> commands);
+
+    PointCommandResult applyCommand(PointCommand command);
+
+    PointSummary getPointSummary(long id) throws RuntimeException;
+
+    List<PointHistory> getPointHistory(long id) throws RuntimeException;
+
+    CompletableFuture<List<PointHistory>> getPointHistoryAsync(long id);
+
+    Iterator<List<PointHistory>> streamPointHistory(long id) throws RuntimeException;
+
+    CompletableFuture<Iterator<List<PointHistory>>> streamPointHistoryAsync(long id);
+
+    PointHistoryPage getPointHistoryPage(long id, long cursor, Long from, Long to, TransactionType type, int size)
+            throws RuntimeException;
+}
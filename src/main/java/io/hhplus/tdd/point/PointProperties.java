@@ -0,0 +1,244 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.wal.PointWriteAheadLog;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * application.yml 의 point.* 설정
+ */
+@ConfigurationProperties(prefix = "point")
+public record PointProperties(
+        @DefaultValue Lock lock,
+        @DefaultValue Execution execution,
+        @DefaultValue BulkImport bulkImport,
+        @DefaultValue History history,
+        @DefaultValue Balance balance,
+        @DefaultValue Wal wal,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue Idempotency idempotency,
+        @DefaultValue Sharding sharding
+) {
+
+    /**
+     * 사용자별 직렬화 방식
+     * - type : MAP | STRIPED | CAS
+     * - stripes : STRIPED/CAS 의 슬롯 수 (0 이하면 코어 수 기준 기본값)
+     */
+    public record Lock(
+            @DefaultValue("STRIPED") UserLockStrategy.Type type,
+            @DefaultValue("0") int stripes,
+            @DefaultValue Contention contention
+    ) {
+    }
+
+    /**
+     * lock 경합이 심한 사용자 추적 (GET /actuator/hotusers)
+     * - topK : 추적할 사용자 수
+     * - width : Count-Min sketch 한 행의 칸 수 (4행, 칸마다 long 2개)
+     * - minWait : 이 시간 이상 기다린 lock 획득만 경합으로 센다.
+     * - decayInterval : 누적 값을 절반으로 줄이는 주기
+     */
+    public record Contention(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int topK,
+            @DefaultValue("4096") int width,
+            @DefaultValue("1ms") Duration minWait,
+            @DefaultValue("1m") Duration decayInterval
+    ) {
+    }
+
+    /**
+     * 충전/사용 처리 방식
+     * - mode : LOCK (write 스레드에서 사용자 lock 을 잡고 처리) | MAILBOX (사용자별 mailbox 를 worker 가 처리)
+     * - workers : MAILBOX worker 수 (0 이하면 코어 수)
+     * - batchThreads : LOCK 모드에서 일괄 처리 요청을 동시에 처리할 스레드 수
+     * - storageThreads : 비동기 API 가 저장소를 호출하는 스레드 수, 요청 스레드는 저장소 응답을 기다리지 않는다.
+     * - writeThreads : LOCK 모드에서 비동기 충전/사용이 사용자 lock 을 잡고 처리하는 스레드 수 (조회 스레드와 따로 둔다)
+     * - writeQueueCapacity : write 스레드가 모두 바쁠 때 기다릴 수 있는 충전/사용 수, 넘치면 429 로 거절한다.
+     * - parallelWrites : 충전/사용 시 내역 저장과 잔액 저장을 동시에 수행한다. 두 저장은 사용자 lock 을 놓기 전에 모두 끝난다.
+     *   내역 저장이 실패하면 잔액을 되돌리고 실패로 응답하므로, 같은 요청을 다시 보내도 한 번만 반영된다.
+     * - streamingThreads : 스트리밍 응답(내역 조회, import)을 쓰는 MVC 비동기 스레드 수
+     * - streamingQueueCapacity : 스트리밍 스레드가 모두 바쁠 때 기다릴 수 있는 응답 수, 넘치면 거절한다.
+     */
+    public record Execution(
+            @DefaultValue("LOCK") Mode mode,
+            @DefaultValue("0") int workers,
+            @DefaultValue("64") int batchThreads,
+            @DefaultValue("64") int storageThreads,
+            @DefaultValue("64") int writeThreads,
+            @DefaultValue("10000") int writeQueueCapacity,
+            @DefaultValue("false") boolean parallelWrites,
+            @DefaultValue("16") int streamingThreads,
+            @DefaultValue("256") int streamingQueueCapacity
+    ) {
+        public enum Mode {
+            LOCK, MAILBOX
+        }
+    }
+
+    /**
+     * NDJSON 일괄 적재 (POST /point/import)
+     * - window : 동시에 처리 중일 수 있는 최대 줄 수, 가득 차면 요청 본문을 더 읽지 않는다.
+     * - workers : 줄을 처리하는 스레드 수
+     * - timeout : 적재 요청 하나의 최대 처리 시간, 다른 비동기 요청은 spring.mvc.async.request-timeout 을 따른다.
+     * - requests : 동시에 처리하는 적재 요청 수, 적재 요청은 스트리밍 응답과 따로 이 수만큼의 스레드에서 처리한다.
+     * - queue-capacity : 처리를 기다리는 적재 요청 수, 가득 차면 429 로 거절한다.
+     * - max-line-length : 한 줄의 최대 크기, 넘는 줄은 읽지 않고 건너뛰며 그 줄의 결과로 400 을 내보낸다.
+     */
+    public record BulkImport(
+            @DefaultValue("1024") int window,
+            @DefaultValue("64") int workers,
+            @DefaultValue("1h") Duration timeout,
+            @DefaultValue("2") int requests,
+            @DefaultValue("8") int queueCapacity,
+            @DefaultValue("64KB") DataSize maxLineLength
+    ) {
+    }
+
+    public record History(
+            @DefaultValue GroupCommit groupCommit
+    ) {
+    }
+
+    /**
+     * 내역 묶음 저장(group commit)
+     * - window : 첫 요청 이후 다음 요청을 기다리는 최대 시간
+     * - maxBatchSize : 한 번에 저장할 최대 건수
+     */
+    public record GroupCommit(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5ms") Duration window,
+            @DefaultValue("256") int maxBatchSize
+    ) {
+    }
+
+    /**
+     * 잔액 저장소
+     * - store : TABLE (UserPointTable) | PRIMITIVE (PrimitiveUserPointTable, long 배열 기반)
+     *           | MAPPED (MappedUserPointTable, memory-mapped 파일 기반)
+     */
+    public record Balance(
+            @DefaultValue("TABLE") Store store,
+            @DefaultValue Mapped mapped,
+            @DefaultValue WriteBehind writeBehind,
+            @DefaultValue Cache cache
+    ) {
+        public enum Store {
+            TABLE, PRIMITIVE, MAPPED
+        }
+    }
+
+    /**
+     * memory-mapped 잔액 파일 (store: MAPPED)
+     * - file : 잔액 파일 경로, 없으면 새로 만든다.
+     * - capacity : 새 파일을 만들 때 담을 최대 사용자 수 (이미 있는 파일은 파일의 용량을 따른다)
+     */
+    public record Mapped(
+            @DefaultValue("data/user-points.dat") Path file,
+            @DefaultValue("1000000") long capacity
+    ) {
+    }
+
+    /**
+     * 잔액 write-behind 캐시
+     * - flushInterval : dirty 잔액을 저장소에 반영하는 주기
+     */
+    public record WriteBehind(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100ms") Duration flushInterval
+    ) {
+    }
+
+    /**
+     * 잔액 조회 캐시 (read-through)
+     * - maxEntries : 캐시에 담을 최대 사용자 수
+     * - policy : LRU | W_TINY_LFU
+     */
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("100000") int maxEntries,
+            @DefaultValue("W_TINY_LFU") UserPointCache.Policy policy
+    ) {
+    }
+
+    /**
+     * 충전/사용 write-ahead log
+     * - file : 로그 파일 경로, 기동 시 이 파일을 replay 해서 내역과 잔액을 다시 만든다.
+     * - fsync : PER_OP | INTERVAL | EVERY_N
+     * - interval : INTERVAL 일 때 fsync 주기
+     * - everyRecords : EVERY_N 일 때 fsync 할 기록 수
+     */
+    public record Wal(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/point.wal") Path file,
+            @DefaultValue("PER_OP") PointWriteAheadLog.FsyncPolicy fsync,
+            @DefaultValue("10ms") Duration interval,
+            @DefaultValue("64") int everyRecords,
+            @DefaultValue Snapshot snapshot
+    ) {
+    }
+
+    /**
+     * 잔액 스냅샷 (wal 을 켰을 때만 사용할 수 있다)
+     * - file : 스냅샷 파일 경로, 기동 시 이 스냅샷으로 잔액을 불러오고 잔액은 이후의 로그만 replay 한다.
+     *   스냅샷에 반영된 로그는 [wal.file].[위치] 보관 파일로 옮기며, 내역은 보관 파일부터 모두 replay 한다.
+     * - interval : 스냅샷을 남기는 주기
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("data/point.snapshot") Path file,
+            @DefaultValue("1m") Duration interval
+    ) {
+    }
+
+    /**
+     * 충전/사용 요청의 사용자별 제한 (넘치면 429)
+     * - permitsPerSecond / burst : 사용자당 초당 허용 요청 수와 한 번에 몰려도 허용하는 요청 수
+     * - maxInFlight : 사용자당 동시에 처리 중(lock 대기 포함)일 수 있는 요청 수
+     * - slots : 상태 배열 크기, 슬롯당 12 byte 이다. 사용자 ID 를 해시해 슬롯을 고르므로 같은 슬롯에 들어간 사용자끼리는
+     *   token bucket 과 maxInFlight 를 나눠 쓴다. 요청이 많은 사용자와 슬롯이 겹친 다른 사용자가 함께 429 를 받을 수 있으며,
+     *   실제보다 일찍 거절될 수는 있어도 늦게 거절되지는 않는다. 동시에 요청하는 사용자 수보다 충분히 크게 두면
+     *   겹칠 확률은 (동시에 요청하는 사용자 수 / slots) 정도로 줄어든다.
+     * - Idempotency-Key 로 이미 처리한(처리 중인) 요청의 재시도는 제한을 거치지 않고 보관한 결과를 돌려준다.
+     */
+    public record RateLimit(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50") double permitsPerSecond,
+            @DefaultValue("100") int burst,
+            @DefaultValue("16") int maxInFlight,
+            @DefaultValue("1048576") int slots
+    ) {
+    }
+
+    /**
+     * Idempotency-Key 헤더로 들어온 충전/사용 결과 보관
+     * - maxSize : 보관할 결과의 추정 메모리 합계 (항목당 약 256 byte + 키 길이 * 2)
+     * - ttl : 결과를 보관하는 시간, 이 시간이 지난 뒤의 재시도는 새 요청으로 처리한다.
+     */
+    public record Idempotency(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("64MB") DataSize maxSize,
+            @DefaultValue("1h") Duration ttl
+    ) {
+    }
+
+    /**
+     * 사용자 ID 를 해시해서 파티션별 PointService 에 나눠 처리한다.
+     * - partitions : 파티션 수 (0 이하면 코어 수), 파티션마다 잔액/내역 테이블과 lock, storage 스레드(storageThreads / partitions)를 따로 둔다.
+     * - 파티션은 테이블을 바로 사용하므로 잔액 캐시, 내역 group commit, write-behind 는 적용되지 않는다.
+     * - 파티션의 잔액 테이블은 balance.store 와 관계없이 동시 쓰기에 안전한 PrimitiveUserPointTable 이다.
+     * - MAILBOX 모드, wal.snapshot, MAPPED 잔액 테이블과는 함께 사용할 수 없다.
+     */
+    public record Sharding(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0") int partitions
+    ) {
+    }
+}
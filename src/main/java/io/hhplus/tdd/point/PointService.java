@@ -1,69 +1,299 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
 import io.hhplus.tdd.excpetion.UserNotFoundException;
+import io.hhplus.tdd.lock.StripedUserLock;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.hhplus.tdd.mailbox.UserMailboxExecutor;
+import io.hhplus.tdd.point.PointMetrics.Operation;
+import io.hhplus.tdd.point.PointMetrics.Rule;
+import io.hhplus.tdd.wal.PointWriteAheadLog;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
-public class PointService {
+public class PointService implements PointOperations {
 
-    private final PointHistoryTable pointHistoryTable;
-    private final UserPointTable userPointTable;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int HISTORY_CHUNK_SIZE = 1024;
 
-    PointService (PointHistoryTable pointHistoryTable, UserPointTable userPointTable){
-        this.pointHistoryTable = pointHistoryTable;
-        this.userPointTable = userPointTable;
+    private final PointHistoryStore pointHistoryTable;
+    private final UserPointStore userPointTable;
+    private final KnownUserRegistry knownUserRegistry;
+    // 같은 ID 에 대한 충전/사용을 직렬화한다.
+    private final UserLockStrategy userLock;
+    // MAILBOX 모드일 때만 사용한다. null 이면 호출 스레드에서 lock 을 잡고 처리한다. (LOCK 모드)
+    private final UserMailboxExecutor mailbox;
+    // 설정했으면 충전/사용을 테이블에 반영하기 전에 로그로 남기고, 반영하지 못하면 abort 해서 replay 하지 않게 한다.
+    private final PointWriteAheadLog writeAheadLog;
+    // LOCK 모드에서 일괄 처리 요청을 사용자별로 나누어 동시에 처리한다.
+    private final Executor batchExecutor;
+    // 사용자별 누적 집계, 충전/사용할 때 함께 갱신한다.
+    private final PointSummaries pointSummaries;
+    // 비동기 API 가 저장소를 호출하는 스레드, 호출 스레드는 저장소 응답을 기다리지 않는다.
+    private final Executor storageExecutor;
+    // 설정했으면 충전/사용 시 내역 저장을 이 스레드에 맡기고 잔액 저장과 동시에 수행한다. null 이면 차례로 저장한다.
+    private final Executor historyWriteExecutor;
+    // 연산별 지연 시간(lock 대기/검증/처리)과 거절 횟수
+    private final PointMetrics metrics;
+    // Idempotency-Key 로 들어온 충전/사용 결과, null 이면 키를 무시하고 매번 처리한다.
+    private final IdempotencyCache idempotencyCache;
+    // LOCK 모드의 비동기 충전/사용 스레드, 사용자 lock 을 기다리는 스레드가 조회(storage 스레드)를 막지 않도록 따로 둔다.
+    private final Executor writeExecutor;
+
+    private PointService(Builder builder) {
+        this.pointHistoryTable = builder.pointHistoryTable;
+        this.userPointTable = builder.userPointTable;
+        this.userLock = builder.userLock;
+        this.mailbox = builder.mailbox;
+        this.writeAheadLog = builder.writeAheadLog;
+        this.batchExecutor = builder.batchExecutor;
+        this.storageExecutor = builder.storageExecutor;
+        this.historyWriteExecutor = builder.historyWriteExecutor;
+        this.metrics = builder.metrics;
+        this.idempotencyCache = builder.idempotencyCache;
+        this.writeExecutor = builder.writeExecutor != null ? builder.writeExecutor : builder.storageExecutor;
+        if (builder.knownUserRegistry != null) {
+            this.knownUserRegistry = builder.knownUserRegistry;
+        } else {
+            // 기동 시점에 이미 쌓여있는 내역으로 사용자 목록을 복구한다.
+            this.knownUserRegistry = new KnownUserRegistry();
+            knownUserRegistry.registerAll(pointHistoryTable.selectAllUserIds());
+        }
+        if (builder.pointSummaries != null) {
+            this.pointSummaries = builder.pointSummaries;
+        } else {
+            this.pointSummaries = new PointSummaries();
+            pointSummaries.rebuild(pointHistoryTable);
+        }
     }
 
-    // 각 ID별 Lock을 관리하는 ConcurrentHashMap
-    private final ConcurrentHashMap<Long, Lock> lockMap = new ConcurrentHashMap<>();
+    /**
+     * 두 저장소만 정하고 나머지는 기본값을 쓰는 Builder 를 만든다.
+     * 사용자 목록이나 집계를 넘기지 않으면 기동 시점의 내역으로 새로 만든다.
+     */
+    static Builder builder(PointHistoryStore pointHistoryTable, UserPointStore userPointTable) {
+        return new Builder(pointHistoryTable, userPointTable);
+    }
+
+    static final class Builder {
+
+        private final PointHistoryStore pointHistoryTable;
+        private final UserPointStore userPointTable;
+        private KnownUserRegistry knownUserRegistry;
+        private UserLockStrategy userLock = new StripedUserLock(0);
+        private UserMailboxExecutor mailbox;
+        private PointWriteAheadLog writeAheadLog;
+        private Executor batchExecutor = ForkJoinPool.commonPool();
+        private PointSummaries pointSummaries;
+        private Executor storageExecutor = ForkJoinPool.commonPool();
+        private Executor historyWriteExecutor;
+        private PointMetrics metrics = PointMetrics.noop();
+        private IdempotencyCache idempotencyCache;
+        // null 이면 storageExecutor 를 함께 쓴다.
+        private Executor writeExecutor;
+
+        private Builder(PointHistoryStore pointHistoryTable, UserPointStore userPointTable) {
+            this.pointHistoryTable = pointHistoryTable;
+            this.userPointTable = userPointTable;
+        }
+
+        Builder knownUserRegistry(KnownUserRegistry knownUserRegistry) {
+            this.knownUserRegistry = knownUserRegistry;
+            return this;
+        }
+
+        Builder userLock(UserLockStrategy userLock) {
+            this.userLock = userLock;
+            return this;
+        }
+
+        Builder mailbox(UserMailboxExecutor mailbox) {
+            this.mailbox = mailbox;
+            return this;
+        }
+
+        Builder writeAheadLog(PointWriteAheadLog writeAheadLog) {
+            this.writeAheadLog = writeAheadLog;
+            return this;
+        }
+
+        Builder batchExecutor(Executor batchExecutor) {
+            this.batchExecutor = batchExecutor;
+            return this;
+        }
+
+        Builder pointSummaries(PointSummaries pointSummaries) {
+            this.pointSummaries = pointSummaries;
+            return this;
+        }
+
+        Builder storageExecutor(Executor storageExecutor) {
+            this.storageExecutor = storageExecutor;
+            return this;
+        }
+
+        Builder historyWriteExecutor(Executor historyWriteExecutor) {
+            this.historyWriteExecutor = historyWriteExecutor;
+            return this;
+        }
+
+        Builder metrics(PointMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
 
-    private Lock getLock(long id) {
-        // ID에 해당하는 Lock이 없으면 새로 생성해서 추가
-        return lockMap.computeIfAbsent(id, k -> new ReentrantLock());
+        Builder idempotencyCache(IdempotencyCache idempotencyCache) {
+            this.idempotencyCache = idempotencyCache;
+            return this;
+        }
+
+        Builder writeExecutor(Executor writeExecutor) {
+            this.writeExecutor = writeExecutor;
+            return this;
+        }
+
+        PointService build() {
+            return new PointService(this);
+        }
     }
 
      /**
      *  User의 포인트를 조회한다.
      */
-    UserPoint getUserPoint(long id) throws RuntimeException {
+    @Override
+    public UserPoint getUserPoint(long id) throws RuntimeException {
+        long start = System.nanoTime();
+        try {
+            validateGetPoint(id, start);
+            return userPointTable.selectById(id);
+        } finally {
+            metrics.processed(Operation.GET_POINT, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     *  User의 포인트를 storage 스레드에서 조회하고 결과를 CompletableFuture 로 돌려준다.
+     *  사용자 확인은 메모리에서 끝나므로 잔액 조회만 storage 스레드에서 수행한다.
+     *  처리 시간은 요청을 받은 시각부터 storage 스레드에서 조회를 마칠 때까지이다.
+     */
+    @Override
+    public CompletableFuture<UserPoint> getUserPointAsync(long id) {
+        long start = System.nanoTime();
+        try {
+            validateGetPoint(id, start);
+        } catch (RuntimeException e) {
+            metrics.processed(Operation.GET_POINT, System.nanoTime() - start);
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.supplyAsync(() -> userPointTable.selectById(id), storageExecutor)
+                .whenComplete((userPoint, e) -> metrics.processed(Operation.GET_POINT, System.nanoTime() - start));
+    }
+
+    private void validateGetPoint(long id, long start) {
         if(id<=0){
-            throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
+            throw metrics.rejected(Operation.GET_POINT, Rule.INVALID_ID,
+                    new IllegalArgumentException("ID는 1 이상 이어야 합니다."));
         }
-        if(pointHistoryTable.selectAllByUserId(id).isEmpty()){
-            throw new UserNotFoundException("사용자 정보가 없습니다.");
+        if(!knownUserRegistry.contains(id)){
+            throw metrics.rejected(Operation.GET_POINT, Rule.USER_NOT_FOUND,
+                    new UserNotFoundException("사용자 정보가 없습니다."));
         }
-        return userPointTable.selectById(id);
+        metrics.validated(Operation.GET_POINT, System.nanoTime() - start);
     }
 
     /**
      *  User의 포인트를 충전한다.
      */
-    UserPoint chargePoint(long id, long amount) throws RuntimeException {
-        Lock lock = getLock(id);
-        lock.lock();
+    @Override
+    public UserPoint chargePoint(long id, long amount) throws RuntimeException {
+        if (mailbox != null) {
+            return await(chargePointAsync(id, amount));
+        }
+        lock(id, Operation.CHARGE);
+        try {
+            return charge(id, amount);
+        } finally {
+            userLock.unlock(id);
+        }
+    }
+
+    /**
+     *  User의 포인트를 충전하고 결과를 CompletableFuture 로 돌려준다.
+     *  MAILBOX 모드에서는 사용자 mailbox 에 넣고, LOCK 모드에서는 write 스레드에서 lock 을 잡고 처리한다. 어느 쪽이든 바로 반환한다.
+     *  write 스레드의 대기열이 가득 차면 기다리지 않고 TooManyRequestsException 으로 거절한다.
+     */
+    @Override
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount) {
+        if (mailbox != null) {
+            return mailbox.submit(id, () -> charge(id, amount));
+        }
+        return supplyWrite(() -> chargePoint(id, amount));
+    }
+
+    /**
+     *  Idempotency-Key 가 있으면 같은 키로 처리한 결과를 lock 과 테이블에 접근하지 않고 그대로 돌려준다. (재시도로 두 번 충전되지 않는다)
+     */
+    @Override
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyCache == null) {
+            return chargePointAsync(id, amount);
+        }
+        return idempotencyCache.execute(id, TransactionType.CHARGE, amount, idempotencyKey,
+                () -> chargePointAsync(id, amount));
+    }
+
+    // 사용자별로 직렬화된 상태(lock 또는 mailbox)에서만 호출한다.
+    private UserPoint charge(long id, long amount) {
+        long start = System.nanoTime();
         try {
             if(id<=0){
-                throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
+                throw metrics.rejected(Operation.CHARGE, Rule.INVALID_ID,
+                        new IllegalArgumentException("ID는 1 이상 이어야 합니다."));
             }
             if (amount < 1) {
-                throw new IllegalArgumentException("1포인트 미만은 충전할 수 없습니다.");
+                throw metrics.rejected(Operation.CHARGE, Rule.AMOUNT_BELOW_MIN,
+                        new IllegalArgumentException("1포인트 미만은 충전할 수 없습니다."));
             }
             if (amount > 100000) {
-                throw new IllegalArgumentException("한번에 10만 포인트를 초과해서 충전할 수 없습니다.");
+                throw metrics.rejected(Operation.CHARGE, Rule.AMOUNT_ABOVE_MAX,
+                        new IllegalArgumentException("한번에 10만 포인트를 초과해서 충전할 수 없습니다."));
             }
+            metrics.validated(Operation.CHARGE, System.nanoTime() - start);
             UserPoint origin = userPointTable.selectById(id);
             if (origin.point() + amount > 100000000) {
-                throw new IllegalArgumentException("1억 포인트를 초과해서 보유할 수 없습니다.");
+                throw metrics.rejected(Operation.CHARGE, Rule.BALANCE_LIMIT_EXCEEDED,
+                        new IllegalArgumentException("1억 포인트를 초과해서 보유할 수 없습니다."));
+            }
+            long balance = origin.point() + amount;
+            long now = System.currentTimeMillis();
+            long position = log(id, TransactionType.CHARGE, amount, balance, now);
+            UserPoint userPoint;
+            try {
+                CompletableFuture<?> history = insertHistory(id, amount, TransactionType.CHARGE, now);
+                userPoint = updateBalance(id, origin, balance, history);
+            } catch (RuntimeException e) {
+                abort(id, position, origin, e);
+                throw e;
             }
-            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
-            return userPointTable.insertOrUpdate(id, origin.point() + amount);
+            commit(position);
+            pointSummaries.record(id, TransactionType.CHARGE, amount, now);
+            knownUserRegistry.register(id);
+            return userPoint;
         } finally {
-            lock.unlock();
+            metrics.processed(Operation.CHARGE, System.nanoTime() - start);
         }
     }
 
@@ -71,45 +301,380 @@ public class PointService {
     /**
      *  User의 포인트를 사용한다.
      */
-    UserPoint usePoint(long id, long amount) throws RuntimeException {
-        Lock lock = getLock(id);
-        lock.lock();
+    @Override
+    public UserPoint usePoint(long id, long amount) throws RuntimeException {
+        if (mailbox != null) {
+            return await(usePointAsync(id, amount));
+        }
+        lock(id, Operation.USE);
+        try {
+            return use(id, amount);
+        } finally {
+            userLock.unlock(id);
+        }
+    }
+
+    /**
+     *  User의 포인트를 사용하고 결과를 CompletableFuture 로 돌려준다.
+     */
+    @Override
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount) {
+        if (mailbox != null) {
+            return mailbox.submit(id, () -> use(id, amount));
+        }
+        return supplyWrite(() -> usePoint(id, amount));
+    }
+
+    private CompletableFuture<UserPoint> supplyWrite(Supplier<UserPoint> write) {
+        try {
+            return CompletableFuture.supplyAsync(write, writeExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new TooManyRequestsException("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 0));
+        }
+    }
+
+    /**
+     *  Idempotency-Key 가 있으면 같은 키로 처리한 결과를 lock 과 테이블에 접근하지 않고 그대로 돌려준다.
+     */
+    @Override
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyCache == null) {
+            return usePointAsync(id, amount);
+        }
+        return idempotencyCache.execute(id, TransactionType.USE, amount, idempotencyKey,
+                () -> usePointAsync(id, amount));
+    }
+
+    // 사용자별로 직렬화된 상태(lock 또는 mailbox)에서만 호출한다.
+    private UserPoint use(long id, long amount) {
+        long start = System.nanoTime();
         try {
             if(id<=0){
-                throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
+                throw metrics.rejected(Operation.USE, Rule.INVALID_ID,
+                        new IllegalArgumentException("ID는 1 이상 이어야 합니다."));
             }
-            if (pointHistoryTable.selectAllByUserId(id).isEmpty()) {
-                throw new UserNotFoundException("사용자 정보가 없습니다.");
+            if (!knownUserRegistry.contains(id)) {
+                throw metrics.rejected(Operation.USE, Rule.USER_NOT_FOUND,
+                        new UserNotFoundException("사용자 정보가 없습니다."));
             }
             if (amount < 1) {
-                throw new IllegalArgumentException("최소 1포인트부터 사용할 수 있습니다.");
+                throw metrics.rejected(Operation.USE, Rule.AMOUNT_BELOW_MIN,
+                        new IllegalArgumentException("최소 1포인트부터 사용할 수 있습니다."));
             }
             if (amount > 1000000) {
-                throw new IllegalArgumentException("한번에 최대 100만 포인트까지 사용할 수 있습니다.");
+                throw metrics.rejected(Operation.USE, Rule.AMOUNT_ABOVE_MAX,
+                        new IllegalArgumentException("한번에 최대 100만 포인트까지 사용할 수 있습니다."));
             }
+            metrics.validated(Operation.USE, System.nanoTime() - start);
             UserPoint origin = userPointTable.selectById(id);
             if (origin.point() < amount) {
-                throw new IllegalArgumentException("보유한 포인트를 초과해서 사용할 수 없습니다.");
+                throw metrics.rejected(Operation.USE, Rule.INSUFFICIENT_BALANCE,
+                        new IllegalArgumentException("보유한 포인트를 초과해서 사용할 수 없습니다."));
             }
-            pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
-            return userPointTable.insertOrUpdate(id, origin.point() - amount);
+            long balance = origin.point() - amount;
+            long now = System.currentTimeMillis();
+            long position = log(id, TransactionType.USE, amount, balance, now);
+            UserPoint userPoint;
+            try {
+                CompletableFuture<?> history = insertHistory(id, amount, TransactionType.USE, now);
+                userPoint = updateBalance(id, origin, balance, history);
+            } catch (RuntimeException e) {
+                abort(id, position, origin, e);
+                throw e;
+            }
+            commit(position);
+            pointSummaries.record(id, TransactionType.USE, amount, now);
+            return userPoint;
         } finally {
-            lock.unlock();
+            metrics.processed(Operation.USE, System.nanoTime() - start);
+        }
+    }
+
+    private void lock(long id, Operation operation) {
+        long start = System.nanoTime();
+        userLock.lock(id);
+        metrics.lockWaited(operation, System.nanoTime() - start);
+    }
+
+    // 내역 저장과 잔액 저장은 서로 의존하지 않으므로 historyWriteExecutor 가 있으면 내역을 먼저 맡기고 잔액을 저장한다.
+    // 호출한 쪽은 lock(또는 mailbox 작업)을 놓기 전에 결과를 기다리므로, 같은 사용자의 다음 요청은 두 저장이 모두 끝난 뒤에 처리된다.
+    private CompletableFuture<?> insertHistory(long id, long amount, TransactionType type, long updateMillis) {
+        if (historyWriteExecutor == null) {
+            pointHistoryTable.insert(id, amount, type, updateMillis);
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> pointHistoryTable.insert(id, amount, type, updateMillis),
+                historyWriteExecutor);
+    }
+
+    // 잔액을 저장하고 내역 저장이 끝나기를 기다린다. 집계와 사용자 목록은 두 저장이 모두 성공한 뒤에 호출한 쪽이 반영한다.
+    // 내역 저장이 실패하면 잔액을 origin 으로 되돌리고 예외를 던진다. lock(또는 mailbox 작업)을 잡고 있으므로 그 사이 다른 요청이 잔액을 바꾸지 않았다.
+    // 잔액 저장이 실패하면 내역 저장이 끝나기를 기다린 뒤 잔액 저장 예외를 던진다.
+    private UserPoint updateBalance(long id, UserPoint origin, long balance, CompletableFuture<?> history) {
+        UserPoint userPoint;
+        try {
+            userPoint = userPointTable.insertOrUpdate(id, balance);
+        } catch (RuntimeException e) {
+            history.exceptionally(ignored -> null).join();
+            throw e;
+        }
+        try {
+            await(history);
+        } catch (RuntimeException e) {
+            userPointTable.insertOrUpdate(id, origin.point());
+            throw e;
+        }
+        return userPoint;
+    }
+
+    /**
+     *  여러 User의 포인트 충전/사용을 한 번에 처리한다.
+     *  요청을 사용자별로 묶어 사용자마다 한 번만 lock 을 잡고(또는 mailbox 작업 하나로) 요청 순서대로 처리하며, 서로 다른 사용자는 동시에 처리한다.
+     *  결과는 요청과 같은 순서로 돌려주며, 실패한 요청은 단건 API 와 같은 에러를 담는다.
+     */
+    @Override
+    public CompletableFuture<List<PointCommandResult>> applyAllAsync(List<PointCommand> commands) {
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByUser.computeIfAbsent(commands.get(i).userId(), k -> new ArrayList<>()).add(i);
+        }
+        PointCommandResult[] results = new PointCommandResult[commands.size()];
+        List<CompletableFuture<?>> users = new ArrayList<>(indexesByUser.size());
+        indexesByUser.forEach((id, indexes) -> {
+            Runnable task = () -> {
+                for (int index : indexes) {
+                    results[index] = apply(commands.get(index));
+                }
+            };
+            if (mailbox != null) {
+                users.add(mailbox.submit(id, () -> {
+                    task.run();
+                    return null;
+                }));
+            } else {
+                users.add(CompletableFuture.runAsync(() -> {
+                    userLock.lock(id);
+                    try {
+                        task.run();
+                    } finally {
+                        userLock.unlock(id);
+                    }
+                }, batchExecutor));
+            }
+        });
+        return CompletableFuture.allOf(users.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> List.of(results));
+    }
+
+    /**
+     *  충전/사용 요청 한 건을 처리하고 결과를 돌려준다. 실패하면 예외 대신 에러를 담은 결과를 돌려준다.
+     */
+    @Override
+    public PointCommandResult applyCommand(PointCommand command) {
+        return apply(command, this::chargePoint, this::usePoint);
+    }
+
+    // 사용자별로 직렬화된 상태(lock 또는 mailbox)에서만 호출한다.
+    private PointCommandResult apply(PointCommand command) {
+        return apply(command, this::charge, this::use);
+    }
+
+    private static PointCommandResult apply(PointCommand command, PointOperation charge, PointOperation use) {
+        try {
+            if (command.type() == null) {
+                throw new IllegalArgumentException("거래 유형은 CHARGE 또는 USE 이어야 합니다.");
+            }
+            UserPoint userPoint = switch (command.type()) {
+                case CHARGE -> charge.apply(command.userId(), command.amount());
+                case USE -> use.apply(command.userId(), command.amount());
+            };
+            return PointCommandResult.succeeded(command, userPoint);
+        } catch (RuntimeException e) {
+            return PointCommandResult.failed(command, e);
+        }
+    }
+
+    private interface PointOperation {
+        UserPoint apply(long id, long amount);
+    }
+
+    /**
+     *  User의 포인트 누적 집계(유형별 금액/건수, 첫/마지막 거래 시각)를 조회한다. 내역을 읽지 않으므로 O(1) 이다.
+     */
+    @Override
+    public PointSummary getPointSummary(long id) throws RuntimeException {
+        if(id<=0){
+            throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
         }
+        if(!knownUserRegistry.contains(id)){
+            throw new UserNotFoundException("사용자 정보가 없습니다.");
+        }
+        return pointSummaries.get(id);
     }
 
     /**
      *  User의 포인트 충전/사용 내역을 조회한다.
+     *  잔액 파일(MAPPED)에 잔액만 남아있는 사용자처럼, 알고 있는 사용자는 내역이 없어도 빈 목록을 돌려준다.
+     */
+    @Override
+    public List<PointHistory> getPointHistory(long id) throws RuntimeException {
+        long start = System.nanoTime();
+        try {
+            if(id<=0){
+                throw metrics.rejected(Operation.GET_HISTORY, Rule.INVALID_ID,
+                        new IllegalArgumentException("ID는 1 이상 이어야 합니다."));
+            }
+            metrics.validated(Operation.GET_HISTORY, System.nanoTime() - start);
+            List<PointHistory> histories = pointHistoryTable.selectAllByUserId(id);
+            if (histories.isEmpty() && !knownUserRegistry.contains(id)) {
+                throw metrics.rejected(Operation.GET_HISTORY, Rule.USER_NOT_FOUND,
+                        new UserNotFoundException("사용자 정보가 없습니다."));
+            }
+            return histories;
+        } finally {
+            metrics.processed(Operation.GET_HISTORY, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     *  User의 포인트 충전/사용 내역을 storage 스레드에서 조회하고 결과를 CompletableFuture 로 돌려준다.
+     */
+    @Override
+    public CompletableFuture<List<PointHistory>> getPointHistoryAsync(long id) {
+        return CompletableFuture.supplyAsync(() -> getPointHistory(id), storageExecutor);
+    }
+
+    // 테이블에 반영하기 전에 로그로 남긴다. 로그가 없으면 -1 을 돌려준다.
+    private long log(long id, TransactionType type, long amount, long balance, long updateMillis) {
+        if (writeAheadLog == null) {
+            return -1;
+        }
+        return writeAheadLog.begin(new PointWriteAheadLog.Entry(id, type, amount, balance, updateMillis));
+    }
+
+    private void commit(long position) {
+        if (writeAheadLog != null) {
+            writeAheadLog.commit(position);
+        }
+    }
+
+    // 로그를 남긴 뒤 반영하지 못했으면 replay 하지 않도록 abort 한다. abort 도 실패하면 원래 예외에 덧붙인다.
+    // updateBalance 가 잔액을 origin 으로 되돌렸으므로 abort 레코드에 origin 을 남긴다.
+    private void abort(long id, long position, UserPoint origin, RuntimeException cause) {
+        if (writeAheadLog == null) {
+            return;
+        }
+        try {
+            writeAheadLog.abort(position, id, origin.point());
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     *  User의 포인트 충전/사용 내역을 id 순서대로 chunk(최대 HISTORY_CHUNK_SIZE 건) 단위로 읽는 Iterator 를 돌려준다.
+     *  전체 내역을 한 번에 복사하지 않으며, 다음 chunk 는 next() 를 호출할 때 읽는다.
+     *  첫 chunk 는 바로 읽으므로 내역도 없고 알지 못하는 사용자면 이 메서드에서 UserNotFoundException 이 발생한다.
+     *  알고 있는 사용자의 내역이 없으면 빈 Iterator 를 돌려준다.
+     *  처리 시간(point.operation, operation=get_history)은 첫 chunk 를 읽을 때까지만 기록한다.
+     */
+    @Override
+    public Iterator<List<PointHistory>> streamPointHistory(long id) throws RuntimeException {
+        long start = System.nanoTime();
+        List<PointHistory> first;
+        try {
+            if(id<=0){
+                throw metrics.rejected(Operation.GET_HISTORY, Rule.INVALID_ID,
+                        new IllegalArgumentException("ID는 1 이상 이어야 합니다."));
+            }
+            metrics.validated(Operation.GET_HISTORY, System.nanoTime() - start);
+            first = historyChunk(id, 0);
+            if (first.isEmpty() && !knownUserRegistry.contains(id)) {
+                throw metrics.rejected(Operation.GET_HISTORY, Rule.USER_NOT_FOUND,
+                        new UserNotFoundException("사용자 정보가 없습니다."));
+            }
+        } finally {
+            metrics.processed(Operation.GET_HISTORY, System.nanoTime() - start);
+        }
+        return new Iterator<>() {
+            private List<PointHistory> chunk = first;
+
+            @Override
+            public boolean hasNext() {
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public List<PointHistory> next() {
+                if (chunk.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                List<PointHistory> current = chunk;
+                chunk = current.size() < HISTORY_CHUNK_SIZE
+                        ? List.of()
+                        : historyChunk(id, current.get(current.size() - 1).id());
+                return current;
+            }
+        };
+    }
+
+    /**
+     *  streamPointHistory 를 storage 스레드에서 호출한다. 첫 chunk 를 읽는 동안 호출 스레드는 기다리지 않는다.
+     */
+    @Override
+    public CompletableFuture<Iterator<List<PointHistory>>> streamPointHistoryAsync(long id) {
+        return CompletableFuture.supplyAsync(() -> streamPointHistory(id), storageExecutor);
+    }
+
+    private List<PointHistory> historyChunk(long id, long afterId) {
+        return pointHistoryTable.selectPageByUserId(id,
+                new PointHistoryStore.PageQuery(afterId, Long.MIN_VALUE, Long.MAX_VALUE, null, HISTORY_CHUNK_SIZE));
+    }
+
+    /**
+     *  User의 포인트 충전/사용 내역을 cursor 이후부터 id 오름차순으로 한 페이지씩 조회한다.
+     *  from/to(updateMillis, 양 끝 포함)와 type 으로 거를 수 있으며, 비워두면 거르지 않는다.
      */
-    List<PointHistory> getPointHistory(long id) throws RuntimeException {
+    @Override
+    public PointHistoryPage getPointHistoryPage(long id, long cursor, Long from, Long to, TransactionType type, int size)
+            throws RuntimeException {
         if(id<=0){
             throw new IllegalArgumentException("ID는 1 이상 이어야 합니다.");
         }
-        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(id);
-        if (histories.isEmpty()) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("cursor는 0 이상 이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하 이어야 합니다.");
+        }
+        long fromMillis = from != null ? from : Long.MIN_VALUE;
+        long toMillis = to != null ? to : Long.MAX_VALUE;
+        if (fromMillis > toMillis) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+        if (!knownUserRegistry.contains(id)) {
             throw new UserNotFoundException("사용자 정보가 없습니다.");
         }
-        return histories;
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인한다.
+        List<PointHistory> histories = pointHistoryTable.selectPageByUserId(id,
+                new PointHistoryStore.PageQuery(cursor, fromMillis, toMillis, type, size + 1));
+        if (histories.size() <= size) {
+            return new PointHistoryPage(histories, null);
+        }
+        List<PointHistory> page = histories.subList(0, size);
+        return new PointHistoryPage(List.copyOf(page), page.get(size - 1).id());
     }
 
+    // mailbox(또는 내역 저장) 작업이 던진 예외를 CompletionException 에서 꺼내 동기 호출과 같은 예외를 던진다.
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 충전/사용할 때마다 갱신하는 사용자별 누적 집계
+ * - 조회는 내역을 다시 읽지 않고 O(1) 로 반환한다.
+ * - 기동 시 rebuild 로 내역 저장소에 남아있는 내역에서 다시 만든다. (내역은 보관한 로그부터 모두 복구된다)
+ */
+public class PointSummaries {
+
+    private final Map<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * 거래 한 건을 집계에 반영한다.
+     */
+    void record(long userId, TransactionType type, long amount, long updateMillis) {
+        summaries.merge(userId, PointSummary.of(userId, type, amount, updateMillis), PointSummary::plus);
+    }
+
+    /**
+     * 사용자의 누적 집계, 거래가 없으면 빈 집계를 반환한다.
+     */
+    PointSummary get(long userId) {
+        PointSummary summary = summaries.get(userId);
+        return summary != null ? summary : PointSummary.empty(userId);
+    }
+
+    int size() {
+        return summaries.size();
+    }
+
+    /**
+     * 내역 저장소의 모든 내역을 집계에 더한다. (기동 시 한 번 호출한다)
+     */
+    void rebuild(PointHistoryStore pointHistoryStore) {
+        for (long userId : pointHistoryStore.selectAllUserIds()) {
+            for (PointHistory history : pointHistoryStore.selectAllByUserId(userId)) {
+                record(userId, history.type(), history.amount(), history.updateMillis());
+            }
+        }
+    }
+}
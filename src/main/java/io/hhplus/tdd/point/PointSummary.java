@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자별 포인트 누적 집계
+ * - totalCharged / totalUsed : 유형별 누적 금액
+ * - chargeCount / useCount : 유형별 건수
+ * - firstUpdateMillis / lastUpdateMillis : 첫/마지막 거래 시각 (거래가 없으면 0)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        long firstUpdateMillis,
+        long lastUpdateMillis
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0, 0, 0, 0, 0, 0);
+    }
+
+    static PointSummary of(long userId, TransactionType type, long amount, long updateMillis) {
+        return switch (type) {
+            case CHARGE -> new PointSummary(userId, amount, 0, 1, 0, updateMillis, updateMillis);
+            case USE -> new PointSummary(userId, 0, amount, 0, 1, updateMillis, updateMillis);
+        };
+    }
+
+    PointSummary plus(PointSummary other) {
+        return new PointSummary(userId,
+                totalCharged + other.totalCharged,
+                totalUsed + other.totalUsed,
+                chargeCount + other.chargeCount,
+                useCount + other.useCount,
+                Math.min(firstUpdateMillis, other.firstUpdateMillis),
+                Math.max(lastUpdateMillis, other.lastUpdateMillis));
+    }
+}
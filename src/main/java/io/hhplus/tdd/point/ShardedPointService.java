@@ -0,0 +1,182 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.lock.UserLockStrategy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 ID 를 해시해서 N 개의 파티션(PointService)에 나눠 맡긴다. (point.sharding)
+ * - 파티션마다 잔액/내역 저장소, 사용자 목록, 집계, lock, storage/write 스레드를 따로 가지므로 서로 다른 파티션의 요청은 상태를 공유하지 않는다.
+ * - 사용자 한 명의 요청은 항상 같은 파티션에서 처리하므로 사용자별 직렬화와 검증 규칙은 PointService 와 같다.
+ * - 여러 사용자에 걸친 일괄 처리는 파티션별로 나눠 동시에 처리한 뒤 요청 순서대로 합친다.
+ */
+public class ShardedPointService implements PointOperations, AutoCloseable {
+
+    private final PointService[] partitions;
+    // 파티션별 storage/write 스레드, close 할 때 함께 종료한다.
+    private final List<ExecutorService> executors;
+
+    ShardedPointService(List<PointService> partitions) {
+        this(partitions, List.of());
+    }
+
+    ShardedPointService(List<PointService> partitions, List<ExecutorService> executors) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("파티션은 1개 이상 이어야 합니다.");
+        }
+        this.partitions = partitions.toArray(PointService[]::new);
+        this.executors = List.copyOf(executors);
+    }
+
+    /**
+     * 설정한 파티션 수, 0 이하면 코어 수
+     */
+    public static int partitionsFor(int requested) {
+        return requested > 0 ? requested : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * id 가 속한 파티션 번호 (0 이상 partitions 미만)
+     * 해시의 상위 비트로 고른다. 파티션 안의 lock 슬롯은 하위 비트로 고르므로, 한 파티션에 들어온 ID 도 모든 슬롯에 고르게 퍼진다.
+     */
+    public static int partitionOf(long id, int partitions) {
+        return (int) ((Integer.toUnsignedLong(UserLockStrategy.spread(id)) * partitions) >>> 32);
+    }
+
+    int partitions() {
+        return partitions.length;
+    }
+
+    @Override
+    public UserPoint getUserPoint(long id) throws RuntimeException {
+        return partition(id).getUserPoint(id);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> getUserPointAsync(long id) {
+        return partition(id).getUserPointAsync(id);
+    }
+
+    @Override
+    public UserPoint chargePoint(long id, long amount) throws RuntimeException {
+        return partition(id).chargePoint(id, amount);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount) {
+        return partition(id).chargePointAsync(id, amount);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargePointAsync(long id, long amount, String idempotencyKey) {
+        return partition(id).chargePointAsync(id, amount, idempotencyKey);
+    }
+
+    @Override
+    public UserPoint usePoint(long id, long amount) throws RuntimeException {
+        return partition(id).usePoint(id, amount);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount) {
+        return partition(id).usePointAsync(id, amount);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> usePointAsync(long id, long amount, String idempotencyKey) {
+        return partition(id).usePointAsync(id, amount, idempotencyKey);
+    }
+
+    /**
+     *  요청을 파티션별로 나눠 각 파티션의 applyAllAsync 로 동시에 처리하고, 결과는 요청과 같은 순서로 합친다.
+     */
+    @Override
+    public CompletableFuture<List<PointCommandResult>> applyAllAsync(List<PointCommand> commands) {
+        List<List<PointCommand>> batches = new ArrayList<>(partitions.length);
+        List<List<Integer>> indexes = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            batches.add(new ArrayList<>());
+            indexes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            int partition = partitionOf(commands.get(i).userId(), partitions.length);
+            batches.get(partition).add(commands.get(i));
+            indexes.get(partition).add(i);
+        }
+        PointCommandResult[] results = new PointCommandResult[commands.size()];
+        List<CompletableFuture<?>> parts = new ArrayList<>(partitions.length);
+        for (int partition = 0; partition < partitions.length; partition++) {
+            if (batches.get(partition).isEmpty()) {
+                continue;
+            }
+            List<Integer> partitionIndexes = indexes.get(partition);
+            parts.add(partitions[partition].applyAllAsync(batches.get(partition)).thenAccept(partitionResults -> {
+                for (int i = 0; i < partitionResults.size(); i++) {
+                    results[partitionIndexes.get(i)] = partitionResults.get(i);
+                }
+            }));
+        }
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> List.of(results));
+    }
+
+    @Override
+    public PointCommandResult applyCommand(PointCommand command) {
+        return partition(command.userId()).applyCommand(command);
+    }
+
+    @Override
+    public PointSummary getPointSummary(long id) throws RuntimeException {
+        return partition(id).getPointSummary(id);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(long id) throws RuntimeException {
+        return partition(id).getPointHistory(id);
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> getPointHistoryAsync(long id) {
+        return partition(id).getPointHistoryAsync(id);
+    }
+
+    @Override
+    public Iterator<List<PointHistory>> streamPointHistory(long id) throws RuntimeException {
+        return partition(id).streamPointHistory(id);
+    }
+
+    @Override
+    public CompletableFuture<Iterator<List<PointHistory>>> streamPointHistoryAsync(long id) {
+        return partition(id).streamPointHistoryAsync(id);
+    }
+
+    @Override
+    public PointHistoryPage getPointHistoryPage(long id, long cursor, Long from, Long to, TransactionType type, int size)
+            throws RuntimeException {
+        return partition(id).getPointHistoryPage(id, cursor, from, to, type, size);
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        for (ExecutorService executor : executors) {
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private PointService partition(long id) {
+        return partitions[partitionOf(id, partitions.length)];
+    }
+}
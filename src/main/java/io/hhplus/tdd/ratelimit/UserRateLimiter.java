@@ -0,0 +1,151 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 요청 속도 제한(token bucket)과 처리 중인 요청 수 제한
+ * - token bucket 은 GCRA(다음 요청이 도착해야 할 이론 시각 하나만 저장하는 방식)로 구현해 슬롯당 long 하나만 쓴다.
+ *   초당 permitsPerSecond 개가 채워지고 최대 burst 개까지 한 번에 쓸 수 있는 token bucket 과 같다.
+ * - 처리 중(lock 대기 포함)인 요청이 maxInFlight 개를 넘으면 기다리게 두지 않고 바로 거절한다.
+ *   언제 자리가 날지 알 수 없으므로 token 하나가 채워지는 시간을 다시 시도할 시간(Retry-After)으로 알려준다.
+ * - 상태는 사용자 ID 를 해시한 고정 크기 배열에 두므로 사용자 수와 관계없이 메모리가 일정하고, 검사할 때 할당이 없다.
+ *   같은 슬롯에 들어간 사용자끼리는 한도를 나눠 쓴다. (실제보다 일찍 거절될 수는 있어도 늦게 거절되지는 않는다)
+ *   슬롯 수와 충돌의 영향은 PointProperties.RateLimit 에 적어둔다.
+ */
+public class UserRateLimiter implements MeterBinder {
+
+    private final AtomicLongArray arrivals;
+    private final AtomicIntegerArray inFlight;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxInFlight;
+    // 처리 중인 요청이 가득 차서 거절할 때 알려주는 다시 시도할 시간
+    private final long inFlightRetryAfterMillis;
+    // 시각은 생성 시점 기준으로 잰다. (nanoTime 은 음수일 수 있고, 배열의 초기값 0 은 "가장 이른 시각"이어야 한다)
+    private final long origin = System.nanoTime();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    /**
+     * @param slots            상태 배열 크기 (2의 거듭제곱으로 올린다)
+     * @param permitsPerSecond 사용자당 초당 허용 요청 수
+     * @param burst            한 번에 몰려도 허용하는 요청 수
+     * @param maxInFlight      사용자당 동시에 처리 중(대기 포함)일 수 있는 요청 수
+     */
+    public UserRateLimiter(int slots, double permitsPerSecond, int burst, int maxInFlight) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0 보다 커야 합니다.");
+        }
+        if (burst < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("burst와 maxInFlight는 1 이상 이어야 합니다.");
+        }
+        int size = slots <= 1 ? 1 : Integer.highestOneBit(slots - 1) << 1;
+        this.arrivals = new AtomicLongArray(size);
+        this.inFlight = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.maxInFlight = maxInFlight;
+        this.inFlightRetryAfterMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(intervalNanos + 999_999));
+    }
+
+    /**
+     * 제한하지 않는 limiter (point.rate-limit.enabled=false)
+     */
+    public static UserRateLimiter unlimited() {
+        return new UserRateLimiter(1, 1, 1, 1) {
+            @Override
+            public void acquire(long id) {
+            }
+
+            @Override
+            public void release(long id) {
+            }
+        };
+    }
+
+    /**
+     * 요청을 받아들이면 task 를 실행하고, 결과가 끝나면 처리 중인 요청 수를 돌려놓는다.
+     *
+     * @throws TooManyRequestsException 속도 제한을 넘었거나 처리 중인 요청이 가득 찼을 때 (task 는 실행하지 않는다)
+     */
+    public <T> CompletableFuture<T> execute(long id, Supplier<CompletableFuture<T>> task) {
+        acquire(id);
+        CompletableFuture<T> result;
+        try {
+            result = task.get();
+        } catch (RuntimeException e) {
+            release(id);
+            throw e;
+        }
+        return result.whenComplete((value, error) -> release(id));
+    }
+
+    /**
+     * 요청을 받아들이고 처리 중인 요청 수를 하나 늘린다. 처리가 끝나면 release 를 호출해야 한다.
+     *
+     * @throws TooManyRequestsException 속도 제한을 넘었거나 처리 중인 요청이 가득 찼을 때
+     */
+    public void acquire(long id) {
+        int slot = slot(id);
+        if (inFlight.incrementAndGet(slot) > maxInFlight) {
+            inFlight.decrementAndGet(slot);
+            queueFull.increment();
+            throw new TooManyRequestsException("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    inFlightRetryAfterMillis);
+        }
+        long waitNanos = take(slot);
+        if (waitNanos > 0) {
+            inFlight.decrementAndGet(slot);
+            rateLimited.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+        }
+    }
+
+    public void release(long id) {
+        inFlight.decrementAndGet(slot(id));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("point.rate_limit.rejections", rateLimited, LongAdder::sum)
+                .tag("reason", "rate")
+                .register(registry);
+        FunctionCounter.builder("point.rate_limit.rejections", queueFull, LongAdder::sum)
+                .tag("reason", "in_flight")
+                .register(registry);
+    }
+
+    // token 을 하나 쓴다. 쓸 수 있으면 0, 없으면 다음 token 이 생길 때까지 남은 시간을 돌려준다.
+    private long take(int slot) {
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long start = Math.max(arrival, now);
+            long ahead = start - now;
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos;
+            }
+            if (arrivals.compareAndSet(slot, arrival, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private int slot(long id) {
+        return UserLockStrategy.spread(id) & mask;
+    }
+}
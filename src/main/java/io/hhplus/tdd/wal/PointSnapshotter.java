@@ -0,0 +1,237 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 주기적으로 잔액 스냅샷을 남겨, 기동 시 잔액은 스냅샷 이후의 로그만 replay 하게 한다.
+ * - 스냅샷은 사용자별 잔액과 스냅샷에 반영된 로그 위치로 이루어진다.
+ * - 잔액은 별도로 들고 있지 않고 잔액 저장소에서 SNAPSHOT_BATCH_SIZE 명씩 selectAllByIds 로 읽는다.
+ *   충전/사용은 스냅샷 때문에 기다리지 않는다.
+ * - 읽기 전에 fsync 와 commit/abort 까지 끝난 로그 위치를 정하고 그 위치를 스냅샷 위치로 남긴다.
+ *   읽는 동안 진행된 거래는 그 위치 이후의 로그에 있으므로, 스냅샷이 그 거래의 잔액을 담았어도 replay 하면 같은 잔액이 된다.
+ *   잔액을 다 읽은 뒤 로그를 fsync 하므로, 스냅샷이 담은 잔액의 로그는 모두 남아있다.
+ * - 새 스냅샷은 임시 파일에 쓴 뒤 교체하므로, 쓰는 중에 장애가 나도 이전 스냅샷이 남는다.
+ * - 스냅샷을 교체한 뒤에는 스냅샷에 반영된 로그를 보관 파일로 옮긴다. 기동 시 잔액은 마지막 스냅샷 이후의 로그만 replay 하고,
+ *   내역은 보관 파일부터 모두 replay 한다.
+ */
+public class PointSnapshotter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private static final long MAGIC = 0x4850_534E_4150_5348L; // "HPSNAPSH"
+    // 잔액만 담는다. (누적 집계와 내역은 보관한 로그에서 다시 만든다)
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 8 + 4 + 8 + 8;
+    private static final int SNAPSHOT_BATCH_SIZE = 4096;
+
+    private final Path file;
+    private final PointWriteAheadLog writeAheadLog;
+    private final ReentrantLock lock = new ReentrantLock();
+    // 스냅샷 스레드만 접근한다. (lock 으로 보호)
+    private long logPosition;
+    private ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(Path file, PointWriteAheadLog writeAheadLog) {
+        this.file = file;
+        this.writeAheadLog = writeAheadLog;
+        if (Files.exists(file)) {
+            logPosition = readHeader();
+        }
+    }
+
+    /**
+     * 마지막 스냅샷과 그 이후의 로그로 잔액을, 보관 파일부터의 로그로 내역을 복구한다. (기동 시 비어있는 테이블에 호출한다)
+     *
+     * @param knownUser 스냅샷에 잔액이 있는 사용자 ID 를 받는다.
+     * @return 스냅샷 이후 replay 한 로그 수
+     */
+    public long restore(PointHistoryStore pointHistoryStore, UserPointStore userPointStore, LongConsumer knownUser) {
+        lock.lock();
+        try {
+            long users = Files.exists(file) ? load(userPointStore, knownUser) : 0;
+            log.info("포인트 스냅샷을 불러왔습니다. users={}, logPosition={}", users, logPosition);
+            long replayed = writeAheadLog.recover(logPosition, pointHistoryStore, userPointStore);
+            // 스냅샷을 교체한 뒤 로그를 보관 파일로 옮기기 전에 멈췄으면 이어서 옮긴다.
+            writeAheadLog.archiveBefore(logPosition);
+            return replayed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * interval 마다 내역 저장소의 사용자 목록과 잔액 저장소로 스냅샷을 남긴다.
+     */
+    public void start(Duration interval, PointHistoryStore pointHistoryStore, UserPointStore userPointStore) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> snapshotQuietly(pointHistoryStore, userPointStore),
+                millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * fsync 와 commit/abort 가 끝난 로그까지 반영해서 스냅샷을 남긴다. 새로 반영할 로그가 없으면 남기지 않는다.
+     * 사용자 목록은 내역 저장소에서, 잔액은 잔액 저장소(캐시, write-behind 를 포함한 가장 바깥의 저장소)에서 읽는다.
+     *
+     * @return 스냅샷을 새로 남겼으면 true
+     */
+    public boolean snapshot(PointHistoryStore pointHistoryStore, UserPointStore userPointStore) {
+        lock.lock();
+        try {
+            long position = Math.min(writeAheadLog.syncedPosition(), writeAheadLog.appliedPosition());
+            if (position == logPosition) {
+                return false;
+            }
+            long users = write(position, new ArrayList<>(pointHistoryStore.selectAllUserIds()), userPointStore);
+            logPosition = position;
+            log.info("포인트 스냅샷을 남겼습니다. users={}, logPosition={}", users, logPosition);
+            writeAheadLog.archiveBefore(logPosition);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 스냅샷에 반영된 로그 위치
+     */
+    public long logPosition() {
+        lock.lock();
+        try {
+            return logPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void snapshotQuietly(PointHistoryStore pointHistoryStore, UserPointStore userPointStore) {
+        try {
+            snapshot(pointHistoryStore, userPointStore);
+        } catch (RuntimeException e) {
+            log.error("포인트 스냅샷을 남기는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // ids 의 잔액을 SNAPSHOT_BATCH_SIZE 명씩 읽어 임시 파일에 이어 쓰고, fsync 한 뒤 교체한다.
+    private long write(long position, List<Long> ids, UserPointStore userPointStore) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream output = Files.newOutputStream(temporary);
+                 DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output, 1 << 16))) {
+                data.writeLong(MAGIC);
+                data.writeInt(VERSION);
+                data.writeLong(position);
+                data.writeLong(ids.size());
+                for (int from = 0; from < ids.size(); from += SNAPSHOT_BATCH_SIZE) {
+                    List<Long> batch = ids.subList(from, Math.min(from + SNAPSHOT_BATCH_SIZE, ids.size()));
+                    for (UserPoint userPoint : userPointStore.selectAllByIds(batch)) {
+                        data.writeLong(userPoint.id());
+                        data.writeLong(userPoint.point());
+                    }
+                }
+            }
+            // 스냅샷이 담은 잔액의 로그가 스냅샷보다 먼저 디스크에 남도록 한다.
+            writeAheadLog.sync();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return ids.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷을 쓸 수 없습니다. file=" + file, e);
+        }
+    }
+
+    private long readHeader() {
+        try (InputStream input = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(input, HEADER_BYTES))) {
+            return readHeader(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷을 읽을 수 없습니다. file=" + file, e);
+        }
+    }
+
+    private long readHeader(DataInputStream data) throws IOException {
+        if (data.readLong() != MAGIC) {
+            throw new IllegalStateException("포인트 스냅샷 형식이 올바르지 않습니다. file=" + file);
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("포인트 스냅샷 버전을 읽을 수 없습니다. file=" + file + ", version=" + version);
+        }
+        return data.readLong();
+    }
+
+    // 스냅샷의 잔액을 SNAPSHOT_BATCH_SIZE 명씩 insertAll 한다.
+    private long load(UserPointStore userPointStore, LongConsumer knownUser) {
+        try (InputStream input = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(input, 1 << 16))) {
+            readHeader(data);
+            long users = data.readLong();
+            Map<Long, Long> batch = new HashMap<>();
+            for (long i = 0; i < users; i++) {
+                long id = data.readLong();
+                batch.put(id, data.readLong());
+                knownUser.accept(id);
+                if (batch.size() == SNAPSHOT_BATCH_SIZE) {
+                    userPointStore.insertAll(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                userPointStore.insertAll(batch);
+            }
+            return users;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷을 읽을 수 없습니다. file=" + file, e);
+        }
+    }
+}
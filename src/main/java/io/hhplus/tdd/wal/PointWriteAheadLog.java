@@ -0,0 +1,612 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryStore.NewPointHistory;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 충전/사용을 테이블에 반영하기 전에 기록하는 write-ahead log
+ * - 파일은 헤더 [magic(8) version(4) base(8)] 뒤에 레코드가 이어진다. 헤더가 없거나 버전이 다른 파일은 열지 않는다.
+ * - 레코드는 [length(4)][userId(8) type(1) amount(8) balance(8) updateMillis(8)][crc32(4)] 형식으로 파일 끝에 덧붙인다.
+ * - 충전/사용은 begin 으로 기록하고, 테이블에 반영하면 commit, 반영하지 못하면 abort 한다.
+ *   abort 는 [userId(8) type(1)=ABORT position(8) balance(8) 0(8)] 레코드를 남기며, replay 는 abort 된 위치의 레코드를 건너뛴다.
+ *   balance 는 되돌린 잔액이다. 테이블을 바꾸지 않았으면 NO_BALANCE 를 남긴다.
+ *   commit/abort 전에 프로세스가 멈췄으면 그 레코드는 반영된 것으로 replay 한다. (응답하지 못한 요청)
+ * - 위치(position)는 로그를 처음 만든 때부터 센 논리적 위치다. archiveBefore 로 앞부분을 옮겨도 위치는 바뀌지 않으며,
+ *   파일의 첫 레코드 위치는 헤더의 base 에 기록한다.
+ * - archiveBefore 는 앞부분을 지우지 않고 같은 형식의 보관 파일([file].[base])로 옮긴다. 기록 중인 파일은 작게 유지하고,
+ *   내역은 보관 파일과 함께 처음부터 replay 해서 복구한다.
+ * - balance 는 반영 후 잔액이므로, 같은 로그를 여러 번 replay 해도 잔액은 같다.
+ * - 파일 끝에 덜 쓰인 레코드(길이 부족, crc 불일치)는 기록이 끝나지 않은 것으로 보고 열 때 잘라낸다.
+ * - fsync 는 FsyncPolicy 에 따라 묶어서 수행한다.
+ */
+public class PointWriteAheadLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteAheadLog.class);
+
+    private static final long MAGIC = 0x4850_5057_414C_4F47L; // "HPPWALOG"
+    private static final int VERSION = 1;
+    static final int HEADER_BYTES = 8 + 4 + 8;
+    private static final int PAYLOAD_BYTES = 8 + 1 + 8 + 8 + 8;
+    private static final int RECORD_BYTES = 4 + PAYLOAD_BYTES + 4;
+    private static final int REPLAY_BATCH_SIZE = 1024;
+    // abort 레코드의 type, 가리키는 레코드의 위치를 amount 자리에 담는다.
+    private static final byte ABORT = -1;
+    // abort 레코드의 balance, 테이블의 잔액을 바꾸지 않았다.
+    private static final long NO_BALANCE = -1;
+
+    /**
+     * fsync 시점
+     * - PER_OP : 매 기록마다 fsync 가 끝난 뒤 반환한다. 동시에 기록한 요청들은 한 번의 fsync 를 함께 기다린다.
+     * - INTERVAL : interval 마다 fsync 한다. 장애 시 마지막 interval 동안의 기록을 잃을 수 있다.
+     * - EVERY_N : fsync 되지 않은 기록이 N 건 쌓일 때마다 fsync 한다.
+     */
+    public enum FsyncPolicy {
+        PER_OP, INTERVAL, EVERY_N
+    }
+
+    /**
+     * 로그 한 건. balance 는 이 거래를 반영한 뒤의 잔액이다.
+     */
+    public record Entry(long userId, TransactionType type, long amount, long balance, long updateMillis) {
+    }
+
+    private final Path file;
+    // archiveBefore 가 파일을 교체하면 바뀐다. (writeLock 과 syncLock 을 모두 잡고 바꾼다)
+    private volatile FileChannel channel;
+    // 파일의 첫 레코드의 논리적 위치
+    private volatile long base;
+    private final FsyncPolicy policy;
+    private final int everyRecords;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+    private final CRC32 crc = new CRC32();
+    private final ScheduledExecutorService syncer;
+    // 기록한 레코드 수와 fsync 까지 끝난 레코드 수
+    private volatile long written;
+    private volatile long synced;
+    // begin 으로 기록했지만 아직 commit/abort 하지 않은 레코드의 위치
+    private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+
+    public PointWriteAheadLog(Path file, FsyncPolicy policy, Duration interval, int everyRecords) {
+        if (policy == FsyncPolicy.EVERY_N && everyRecords < 1) {
+            throw new IllegalArgumentException("everyRecords는 1 이상 이어야 합니다.");
+        }
+        this.file = file;
+        this.policy = policy;
+        this.everyRecords = everyRecords;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            readHeader();
+            // 스냅샷에 반영된 앞부분은 archiveBefore 로 보관 파일에 옮겨지므로, 기록 중인 파일(base 이후)만 검사한다.
+            long validEnd = physical(scan(file, base, Long.MAX_VALUE, (position, payload) -> {
+            }));
+            if (validEnd < channel.size()) {
+                log.warn("포인트 로그 끝의 완료되지 않은 레코드를 잘라냅니다. file={}, bytes={}", file, channel.size() - validEnd);
+                channel.truncate(validEnd);
+            }
+            channel.position(validEnd);
+            this.written = logical(validEnd) / RECORD_BYTES;
+            this.synced = written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 열 수 없습니다. file=" + file, e);
+        }
+        if (policy == FsyncPolicy.INTERVAL) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-wal-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = Math.max(1, interval.toMillis());
+            this.syncer.scheduleWithFixedDelay(this::syncQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    /**
+     * 로그를 파일 끝에 기록한다. PER_OP 이면 fsync 까지 끝난 뒤 반환한다.
+     * 기록한 로그는 바로 반영된 것으로 본다. (replay 대상)
+     *
+     * @return 기록한 레코드의 위치
+     */
+    public long append(Entry entry) {
+        return write(entry, false);
+    }
+
+    /**
+     * 테이블에 반영하기 전의 충전/사용을 기록한다. 반영한 뒤 commit 하고, 반영하지 못했으면 abort 한다.
+     * commit/abort 하기 전까지는 appliedPosition 이 이 레코드 앞에 머무른다.
+     *
+     * @return 기록한 레코드의 위치
+     */
+    public long begin(Entry entry) {
+        return write(entry, true);
+    }
+
+    /**
+     * begin 으로 기록한 레코드를 테이블에 반영했다.
+     */
+    public void commit(long position) {
+        pending.remove(position);
+    }
+
+    /**
+     * begin 으로 기록한 레코드를 테이블에 반영하지 못했다. abort 레코드를 남기고 fsync 한 뒤 반환하므로,
+     * 이후에 replay 하면 position 의 레코드를 건너뛴다.
+     */
+    public void abort(long position, long userId) {
+        abort(position, userId, NO_BALANCE);
+    }
+
+    /**
+     * @param balance 테이블에 되돌린 잔액, 스냅샷이 되돌리기 전의 잔액을 읽었어도 replay 하면 이 잔액으로 복구한다.
+     */
+    public void abort(long position, long userId, long balance) {
+        try {
+            long sequence;
+            writeLock.lock();
+            try {
+                encode(userId, ABORT, position, balance, 0);
+                writeBuffer();
+                sequence = ++written;
+            } catch (IOException e) {
+                throw new UncheckedIOException("포인트 로그 abort 기록에 실패했습니다.", e);
+            } finally {
+                writeLock.unlock();
+            }
+            sync(sequence);
+        } finally {
+            pending.remove(position);
+        }
+    }
+
+    /**
+     * 이 위치 전의 로그는 모두 테이블에 반영되었거나 abort 되었다.
+     */
+    public long appliedPosition() {
+        long end = written * RECORD_BYTES;
+        Long oldest = pending.ceiling(Long.MIN_VALUE);
+        return oldest == null ? end : Math.min(oldest, end);
+    }
+
+    /**
+     * 지금까지 기록한 로그를 모두 fsync 한다.
+     */
+    public void sync() {
+        sync(written);
+    }
+
+    /**
+     * fsync 까지 끝난 로그가 끝나는 위치, 이 위치까지의 로그는 장비 장애가 나도 남아있다.
+     */
+    public long syncedPosition() {
+        return synced * RECORD_BYTES;
+    }
+
+    /**
+     * 보관 파일과 기록 중인 파일에 남아있는 온전한 레코드를 처음부터 순서대로 읽는다.
+     *
+     * @return 마지막 온전한 레코드가 끝나는 위치
+     */
+    public long replay(Consumer<Entry> consumer) {
+        return replay(0, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * from 위치부터 to 위치 전까지의 온전한 레코드를 보관 파일부터 순서대로 읽는다.
+     * 보관 파일이 지워져 from 위치가 남아있지 않으면 남아있는 첫 레코드부터 읽는다.
+     * abort 된 레코드와 abort 레코드는 건너뛴다. abort 레코드는 to 뒤에 있을 수도 있으므로 로그 끝까지 찾는다.
+     * 기록 중인 로그를 읽어도 되며, 아직 덜 쓰인 레코드를 만나면 그 앞에서 멈춘다.
+     *
+     * @return 마지막으로 읽은 레코드가 끝나는 위치
+     */
+    public long replay(long from, long to, Consumer<Entry> consumer) {
+        return replayEntries(from, to, (position, entry) -> consumer.accept(entry));
+    }
+
+    private interface EntryConsumer {
+        void accept(long position, Entry entry);
+    }
+
+    private interface AbortConsumer {
+        void accept(long abortedPosition, long userId, long balance);
+    }
+
+    private interface RecordConsumer {
+        void accept(long position, ByteBuffer payload);
+    }
+
+    private long replayEntries(long from, long to, EntryConsumer consumer) {
+        return replayEntries(from, to, consumer, (abortedPosition, userId, balance) -> {
+        });
+    }
+
+    // abort 레코드는 로그 순서대로 abortConsumer 에 넘긴다.
+    private long replayEntries(long from, long to, EntryConsumer consumer, AbortConsumer abortConsumer) {
+        List<Path> segments = segments();
+        Set<Long> aborted = new HashSet<>();
+        scanAll(segments, from, Long.MAX_VALUE, (position, payload) -> {
+            if (payload.get(8) == ABORT) {
+                aborted.add(payload.getLong(9));
+            }
+        });
+        return scanAll(segments, from, to, (position, payload) -> {
+            if (payload.get(8) == ABORT) {
+                abortConsumer.accept(payload.getLong(9), payload.getLong(0), payload.getLong(17));
+            } else if (!aborted.contains(position)) {
+                consumer.accept(position, decode(payload));
+            }
+        });
+    }
+
+    // 보관 파일(base 순)과 기록 중인 파일을 이어서 읽는다.
+    // archiveBefore 도중에 멈춰 보관 파일과 기록 중인 파일이 겹치면, 이미 읽은 위치는 건너뛴다.
+    private long scanAll(List<Path> segments, long from, long to, RecordConsumer consumer) {
+        long position = from;
+        for (Path segment : segments) {
+            position = scan(segment, position, to, consumer);
+        }
+        return position;
+    }
+
+    // 보관 파일을 base 순으로 정렬하고 마지막에 기록 중인 파일을 둔다.
+    private List<Path> segments() {
+        String prefix = file.getFileName() + ".";
+        Path directory = file.toAbsolutePath().getParent();
+        List<Path> archives = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(path -> isArchive(path.getFileName().toString(), prefix)).forEach(archives::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그 보관 파일을 찾을 수 없습니다. file=" + file, e);
+        }
+        archives.sort(Comparator.comparingLong(path -> Long.parseLong(path.getFileName().toString().substring(prefix.length()))));
+        archives.add(file);
+        return archives;
+    }
+
+    private static boolean isArchive(String name, String prefix) {
+        if (!name.startsWith(prefix) || name.length() == prefix.length()) {
+            return false;
+        }
+        for (int i = prefix.length(); i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path archiveOf(long segmentBase) {
+        return file.resolveSibling(file.getFileName() + "." + String.format("%020d", segmentBase));
+    }
+
+    // segment 파일의 from 위치부터 to 위치 전까지의 온전한 레코드를 abort 여부와 상관없이 순서대로 읽는다.
+    private long scan(Path segment, long from, long to, RecordConsumer consumer) {
+        long position = from;
+        try (InputStream input = Files.newInputStream(segment);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(input, 1 << 16))) {
+            // 읽는 도중 파일이 교체되어도 맞도록 base 는 지금 연 파일의 헤더에서 읽는다.
+            if (data.readLong() != MAGIC) {
+                throw new IllegalStateException("포인트 로그 형식이 올바르지 않습니다. file=" + segment);
+            }
+            data.readInt();
+            long fileBase = data.readLong();
+            position = Math.max(from, fileBase);
+            data.skipNBytes(position - fileBase);
+            byte[] payload = new byte[PAYLOAD_BYTES];
+            CRC32 checksum = new CRC32();
+            while (position + RECORD_BYTES <= to) {
+                int length = data.readInt();
+                if (length != PAYLOAD_BYTES) {
+                    break;
+                }
+                data.readFully(payload);
+                int expected = data.readInt();
+                checksum.reset();
+                checksum.update(payload);
+                if ((int) checksum.getValue() != expected) {
+                    break;
+                }
+                consumer.accept(position, ByteBuffer.wrap(payload));
+                position += RECORD_BYTES;
+            }
+        } catch (EOFException endOfLog) {
+            // 마지막 레코드가 덜 쓰였거나 파일 끝에 도달했다.
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그를 읽을 수 없습니다. file=" + segment, e);
+        }
+        return position;
+    }
+
+    /**
+     * position 이전의 로그를 보관 파일로 옮긴다. (스냅샷에 반영되어 잔액을 복구할 때는 더 이상 replay 하지 않을 로그)
+     * 옮길 로그는 보관 파일에, 남길 로그는 새 파일에 옮겨 쓰고 fsync 한 뒤 교체하므로, 도중에 장애가 나도 이전 파일이 그대로 남는다.
+     * 교체하는 동안에는 기록과 fsync 를 잠시 멈춘다. 파일에 남은 로그는 마지막 스냅샷 이후의 로그뿐이므로 오래 걸리지 않는다.
+     */
+    public void archiveBefore(long position) {
+        writeLock.lock();
+        syncLock.lock();
+        try {
+            long end = written * RECORD_BYTES;
+            long target = Math.min(position, end);
+            if (target <= base) {
+                return;
+            }
+            writeSegment(archiveOf(base), base, base, target);
+            Path rotated = writeSegment(file.resolveSibling(file.getFileName() + ".tmp"), target, target, end);
+            Files.move(rotated, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            log.info("포인트 로그의 앞부분을 보관 파일로 옮겼습니다. file={}, from={}, to={}", file, base, target);
+            base = target;
+            // 옮겨 쓴 로그는 모두 fsync 되었다.
+            synced = written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그의 앞부분을 보관 파일로 옮길 수 없습니다. file=" + file, e);
+        } finally {
+            syncLock.unlock();
+            writeLock.unlock();
+        }
+    }
+
+    // 기록 중인 파일의 [from, to) 로그를 segmentBase 헤더를 가진 파일로 옮겨 쓰고 fsync 한다.
+    // 보관 파일은 임시 파일에 쓴 뒤 교체하고, 기록 중인 파일의 교체는 호출한 쪽이 한다.
+    private Path writeSegment(Path target, long segmentBase, long from, long to) throws IOException {
+        boolean archive = !target.getFileName().toString().endsWith(".tmp");
+        Path temporary = archive ? target.resolveSibling(target.getFileName() + ".tmp") : target;
+        try (FileChannel segment = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putLong(MAGIC).putInt(VERSION).putLong(segmentBase).flip();
+            while (header.hasRemaining()) {
+                segment.write(header);
+            }
+            long offset = physical(from);
+            long remaining = physical(to) - offset;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(offset, remaining, segment);
+                offset += transferred;
+                remaining -= transferred;
+            }
+            segment.force(true);
+        }
+        if (archive) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return target;
+    }
+
+    /**
+     * 기록 중인 파일의 첫 레코드의 위치 (이전 로그는 archiveBefore 로 보관 파일에 옮겼다)
+     */
+    public long firstPosition() {
+        return base;
+    }
+
+    /**
+     * 로그를 replay 해서 내역과 잔액을 다시 만든다. (기동 시 비어있는 테이블에 호출한다)
+     * 내역은 묶어서 insertAll 하고, 잔액은 사용자별 마지막 값만 한 번의 insertAll 로 저장한다.
+     *
+     * @return replay 한 로그 수
+     */
+    public long recover(PointHistoryStore pointHistoryStore, UserPointStore userPointStore) {
+        return recover(0, pointHistoryStore, userPointStore);
+    }
+
+    /**
+     * 내역은 보관 파일부터 모두 replay 하고, 잔액은 balancesFrom 위치 이후의 로그만 replay 한다. (스냅샷 이후의 로그)
+     * 스냅샷은 거래가 진행 중인 테이블에서 읽으므로 abort 로 되돌리기 전의 잔액을 담았을 수 있다.
+     * balancesFrom 이후에 abort 된 거래는 abort 레코드의 되돌린 잔액으로 복구한다.
+     *
+     * @return 잔액을 replay 한 로그 수
+     */
+    public long recover(long balancesFrom, PointHistoryStore pointHistoryStore, UserPointStore userPointStore) {
+        List<NewPointHistory> batch = new ArrayList<>(REPLAY_BATCH_SIZE);
+        Map<Long, Long> balances = new HashMap<>();
+        long[] count = {0, 0};
+        long[] first = {-1};
+        replayEntries(0, Long.MAX_VALUE, (position, entry) -> {
+            if (first[0] < 0) {
+                first[0] = position;
+            }
+            batch.add(new NewPointHistory(entry.userId(), entry.amount(), entry.type(), entry.updateMillis()));
+            if (batch.size() == REPLAY_BATCH_SIZE) {
+                pointHistoryStore.insertAll(batch);
+                batch.clear();
+            }
+            count[0]++;
+            if (position >= balancesFrom) {
+                balances.put(entry.userId(), entry.balance());
+                count[1]++;
+            }
+        }, (abortedPosition, userId, balance) -> {
+            if (abortedPosition >= balancesFrom && balance != NO_BALANCE) {
+                balances.put(userId, balance);
+            }
+        });
+        if (!batch.isEmpty()) {
+            pointHistoryStore.insertAll(batch);
+        }
+        if (!balances.isEmpty()) {
+            userPointStore.insertAll(balances);
+        }
+        if (first[0] > 0) {
+            log.warn("포인트 로그의 보관 파일이 없어 남아있는 로그부터 내역을 복구했습니다. file={}, firstPosition={}",
+                    file, first[0]);
+        }
+        log.info("포인트 로그를 replay 했습니다. balancesFrom={}, histories={}, entries={}, users={}",
+                balancesFrom, count[0], count[1], balances.size());
+        return count[1];
+    }
+
+    @Override
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdown();
+        }
+        sync();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // sequence 번째 레코드까지 fsync 한다. 기다리는 동안 다른 스레드가 fsync 했으면 바로 반환한다.
+    private void sync(long sequence) {
+        syncLock.lock();
+        try {
+            if (synced >= sequence) {
+                return;
+            }
+            // fsync 를 시작하기 전에 기록된 레코드는 모두 이번 fsync 에 포함된다.
+            long target = written;
+            channel.force(false);
+            synced = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그 fsync 에 실패했습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // 헤더를 읽는다. 새 파일이면 헤더를 쓴다.
+    private void readHeader() throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (size >= HEADER_BYTES) {
+            channel.read(header, 0);
+            header.flip();
+            if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalStateException("포인트 로그 형식이 올바르지 않습니다. file=" + file);
+            }
+            base = header.getLong();
+            return;
+        }
+        // 비어 있거나 헤더를 쓰던 중에 멈춘 파일
+        channel.truncate(0);
+        header.clear();
+        header.putLong(MAGIC).putInt(VERSION).putLong(0).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        base = 0;
+    }
+
+    private long physical(long position) {
+        return HEADER_BYTES + position - base;
+    }
+
+    private long logical(long physicalPosition) {
+        return base + physicalPosition - HEADER_BYTES;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("포인트 로그 fsync 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // begin 이면 commit/abort 할 때까지 pending 에 둔다.
+    private long write(Entry entry, boolean begin) {
+        long position;
+        long sequence;
+        writeLock.lock();
+        try {
+            encode(entry.userId(), (byte) entry.type().ordinal(), entry.amount(), entry.balance(), entry.updateMillis());
+            writeBuffer();
+            position = written * RECORD_BYTES;
+            if (begin) {
+                pending.add(position);
+            }
+            sequence = ++written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 로그 기록에 실패했습니다.", e);
+        } finally {
+            writeLock.unlock();
+        }
+        if (policy == FsyncPolicy.PER_OP || (policy == FsyncPolicy.EVERY_N && sequence - synced >= everyRecords)) {
+            try {
+                sync(sequence);
+            } catch (RuntimeException e) {
+                // 호출한 쪽은 반영하지 않으므로, 나중에 fsync 되더라도 replay 하지 않도록 abort 를 남긴다.
+                if (begin) {
+                    try {
+                        abort(position, entry.userId());
+                    } catch (RuntimeException suppressed) {
+                        e.addSuppressed(suppressed);
+                    }
+                }
+                throw e;
+            }
+        }
+        return position;
+    }
+
+    private void writeBuffer() throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void encode(long userId, byte type, long amount, long balance, long updateMillis) {
+        buffer.clear();
+        buffer.putInt(PAYLOAD_BYTES);
+        buffer.putLong(userId);
+        buffer.put(type);
+        buffer.putLong(amount);
+        buffer.putLong(balance);
+        buffer.putLong(updateMillis);
+        crc.reset();
+        crc.update(buffer.array(), 4, PAYLOAD_BYTES);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+    }
+
+    private static Entry decode(ByteBuffer payload) {
+        return new Entry(payload.getLong(), TransactionType.values()[payload.get()],
+                payload.getLong(), payload.getLong(), payload.getLong());
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PointExecutorsTest {
+
+    @Test
+    void 플랫폼_스레드_풀은_이름이_붙은_daemon_스레드로_실행한다() throws Exception {
+        // Given
+        ExecutorService executor = PointExecutors.create("point-test", 2, false);
+
+        // When
+        Thread thread = executor.submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertEquals("point-test-1", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    void 가상_스레드를_켜면_작업을_가상_스레드에서_실행하고_지원하지_않으면_IllegalStateException이_발생한다() throws Exception {
+        if (!PointExecutors.virtualThreadsSupported()) {
+            // When
+            Exception exception = assertThrows(IllegalStateException.class,
+                    () -> PointExecutors.create("point-test", 2, true));
+
+            // Then
+            assertEquals("가상 스레드는 Java 21 이상에서 사용할 수 있습니다.", exception.getMessage());
+            return;
+        }
+        // Given
+        ExecutorService executor = PointExecutors.create("point-test", 2, true);
+
+        // When
+        Thread thread = executor.submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertEquals("point-test-1", thread.getName());
+        assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+}
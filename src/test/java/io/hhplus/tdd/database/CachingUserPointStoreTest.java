@@ -0,0 +1,97 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CachingUserPointStoreTest {
+
+    private final CountingUserPointStore delegate = new CountingUserPointStore();
+    private final CachingUserPointStore cachingStore =
+            new CachingUserPointStore(delegate, UserPointCache.Policy.LRU.create(2));
+
+    @Test
+    void 한번_조회한_잔액은_캐시에서_반환한다() {
+        // Given
+        delegate.table.insertOrUpdate(1L, 100);
+
+        // When
+        cachingStore.selectById(1L);
+        UserPoint result = cachingStore.selectById(1L);
+
+        // Then
+        assertEquals(100, result.point());
+        assertEquals(1, delegate.selects.get());
+        assertEquals(0.5, cachingStore.hitRatio(), 0.0001);
+    }
+
+    @Test
+    void 충전_사용으로_변경된_잔액은_캐시에도_바로_반영된다() {
+        // Given
+        cachingStore.insertOrUpdate(1L, 100);
+        cachingStore.selectById(1L);
+
+        // When
+        cachingStore.insertOrUpdate(1L, 300);
+
+        // Then
+        assertEquals(300, cachingStore.selectById(1L).point());
+        assertEquals(0, delegate.selects.get());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_조회하지_않은_잔액부터_제거한다() {
+        // Given
+        UserPointCache cache = UserPointCache.Policy.LRU.create(2);
+        CachingUserPointStore store = new CachingUserPointStore(delegate, cache);
+        store.insertOrUpdate(1L, 100);
+        store.insertOrUpdate(2L, 200);
+        store.selectById(1L);
+
+        // When
+        store.insertOrUpdate(3L, 300);
+
+        // Then
+        assertEquals(1, cache.evictions());
+        assertEquals(100, store.selectById(1L).point());
+        store.selectById(2L);
+        assertEquals(1, delegate.selects.get());
+    }
+
+    @Test
+    void 저장소에서_읽는_사이_변경된_잔액은_옛_값으로_덮어쓰지_않는다() {
+        // Given
+        delegate.table.insertOrUpdate(1L, 100);
+        // 저장소에서 옛 값을 읽는 동안 다른 요청이 잔액을 바꾼 상황
+        delegate.onSelect = () -> cachingStore.insertOrUpdate(1L, 500);
+
+        // When
+        cachingStore.selectById(1L);
+        delegate.onSelect = () -> { };
+
+        // Then
+        assertEquals(500, cachingStore.selectById(1L).point());
+    }
+
+    private static class CountingUserPointStore implements UserPointStore {
+        private final UserPointTable table = new UserPointTable();
+        private final AtomicInteger selects = new AtomicInteger();
+        private Runnable onSelect = () -> { };
+
+        @Override
+        public UserPoint selectById(long id) {
+            selects.incrementAndGet();
+            UserPoint userPoint = table.selectById(id);
+            onSelect.run();
+            return userPoint;
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            return table.insertOrUpdate(id, amount);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupCommitPointHistoryStoreTest {
+
+    private final CountingPointHistoryStore delegate = new CountingPointHistoryStore();
+    private final GroupCommitPointHistoryStore groupCommit =
+            new GroupCommitPointHistoryStore(delegate, Duration.ofMillis(50), 100);
+
+    @AfterEach
+    void tearDown() {
+        groupCommit.close();
+    }
+
+    @Test
+    void 동시에_들어온_저장_요청은_한번의_묶음으로_저장된다() throws Exception {
+        // Given
+        int requests = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(requests);
+        List<Future<PointHistory>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 1; i <= requests; i++) {
+            long userId = i;
+            futures.add(executorService.submit(() -> groupCommit.insert(userId, 100, TransactionType.CHARGE, 1)));
+        }
+        for (Future<PointHistory> future : futures) {
+            assertNotNull(future.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // Then
+        assertTrue(delegate.batches.get() < requests);
+        for (long userId = 1; userId <= requests; userId++) {
+            assertEquals(1, groupCommit.selectAllByUserId(userId).size());
+        }
+    }
+
+    @Test
+    void 최대_묶음_크기를_넘지_않는다() throws Exception {
+        // Given
+        GroupCommitPointHistoryStore small = new GroupCommitPointHistoryStore(delegate, Duration.ofMillis(50), 2);
+        ExecutorService executorService = Executors.newFixedThreadPool(6);
+        List<Future<PointHistory>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 1; i <= 6; i++) {
+            long userId = i;
+            futures.add(executorService.submit(() -> small.insert(userId, 100, TransactionType.CHARGE, 1)));
+        }
+        for (Future<PointHistory> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        small.close();
+
+        // Then
+        assertTrue(delegate.maxBatchSize.get() <= 2);
+    }
+
+    @Test
+    void 묶음_저장이_실패하면_호출자에게_예외가_전달된다() {
+        // Given
+        delegate.failing = true;
+
+        // When
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> groupCommit.insert(1L, 100, TransactionType.CHARGE, 1));
+
+        // Then
+        assertEquals("저장 실패", exception.getMessage());
+    }
+
+    @Test
+    void 묶음에_담긴_요청은_시간이_지나도_저장_결과를_돌려주고_담기지_못한_요청만_실패한다() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        delegate.blocking = release;
+        GroupCommitPointHistoryStore slow =
+                new GroupCommitPointHistoryStore(delegate, Duration.ZERO, 1, Duration.ofMillis(100));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<PointHistory> batched = executorService.submit(() -> slow.insert(1L, 100, TransactionType.CHARGE, 1));
+        while (delegate.blockedBatches.get() == 0) {
+            Thread.sleep(1);
+        }
+        Future<PointHistory> queued = executorService.submit(() -> slow.insert(2L, 100, TransactionType.CHARGE, 1));
+        ExecutionException timedOut = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        PointHistory committed = batched.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+        slow.close();
+
+        // Then
+        assertEquals(1L, committed.userId());
+        assertEquals("내역 저장이 지연되고 있습니다.", timedOut.getCause().getMessage());
+        assertEquals(1, slow.selectAllByUserId(1L).size());
+        assertEquals(0, slow.selectAllByUserId(2L).size());
+    }
+
+    @Test
+    void 종료와_동시에_들어온_저장_요청도_멈추지_않고_저장되거나_실패한다() throws Exception {
+        // Given
+        GroupCommitPointHistoryStore closing = new GroupCommitPointHistoryStore(delegate, Duration.ofMillis(1), 100);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            long userId = i;
+            futures.add(executorService.submit(() -> closing.insert(userId, 100, TransactionType.CHARGE, 1)));
+        }
+
+        // When
+        closing.close();
+
+        // Then
+        for (Future<?> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertEquals("내역 저장소가 종료되었습니다.", e.getCause().getMessage());
+            }
+        }
+        executorService.shutdown();
+        assertThrows(IllegalStateException.class, () -> closing.insert(1L, 100, TransactionType.CHARGE, 1));
+    }
+
+    private static class CountingPointHistoryStore implements PointHistoryStore {
+        private final IndexedPointHistoryTable table = new IndexedPointHistoryTable();
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private volatile boolean failing;
+        // 설정했으면 insertAll 이 풀려날 때까지 기다린다.
+        private volatile CountDownLatch blocking;
+        private final AtomicInteger blockedBatches = new AtomicInteger();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return table.insert(userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> insertAll(List<NewPointHistory> histories) {
+            if (failing) {
+                throw new IllegalStateException("저장 실패");
+            }
+            if (blocking != null) {
+                blockedBatches.incrementAndGet();
+                try {
+                    blocking.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.incrementAndGet();
+            maxBatchSize.accumulateAndGet(histories.size(), Math::max);
+            return table.insertAll(histories);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.selectAllByUserId(userId);
+        }
+
+        @Override
+        public Set<Long> selectAllUserIds() {
+            return table.selectAllUserIds();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedPointHistoryTableTest {
+
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+
+    @Test
+    void 내역이_없는_사용자를_조회하면_빈_리스트를_반환한다() {
+        // When
+        List<PointHistory> result = pointHistoryTable.selectAllByUserId(1L);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void 사용자별로_입력한_순서대로_내역을_반환하고_id는_전역으로_증가한다() {
+        // Given
+        pointHistoryTable.insert(1L, 100, TransactionType.CHARGE, 1);
+        pointHistoryTable.insert(2L, 200, TransactionType.CHARGE, 2);
+        pointHistoryTable.insert(1L, 50, TransactionType.USE, 3);
+
+        // When
+        List<PointHistory> user1 = pointHistoryTable.selectAllByUserId(1L);
+        List<PointHistory> user2 = pointHistoryTable.selectAllByUserId(2L);
+
+        // Then
+        assertEquals(List.of(
+                new PointHistory(1, 1L, 100, TransactionType.CHARGE, 1),
+                new PointHistory(3, 1L, 50, TransactionType.USE, 3)
+        ), user1);
+        assertEquals(List.of(new PointHistory(2, 2L, 200, TransactionType.CHARGE, 2)), user2);
+    }
+
+    @Test
+    void cursor_이후의_내역을_시각_범위와_유형으로_걸러_페이지_크기만큼_반환한다() {
+        // Given
+        for (long millis = 1; millis <= 10; millis++) {
+            pointHistoryTable.insert(1L, millis * 100, millis % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, millis);
+            pointHistoryTable.insert(2L, millis, TransactionType.CHARGE, millis);
+        }
+
+        // When
+        List<PointHistory> afterCursor = pointHistoryTable.selectPageByUserId(1L,
+                new PointHistoryStore.PageQuery(5, Long.MIN_VALUE, Long.MAX_VALUE, null, 2));
+        List<PointHistory> inRange = pointHistoryTable.selectPageByUserId(1L,
+                new PointHistoryStore.PageQuery(0, 3, 6, null, 10));
+        List<PointHistory> usesOnly = pointHistoryTable.selectPageByUserId(1L,
+                new PointHistoryStore.PageQuery(0, 3, Long.MAX_VALUE, TransactionType.USE, 2));
+
+        // Then
+        // 사용자 1 의 내역 id 는 1, 3, 5, ... 19 이다.
+        assertEquals(List.of(7L, 9L), afterCursor.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(3L, 4L, 5L, 6L), inRange.stream().map(PointHistory::updateMillis).toList());
+        assertEquals(List.of(4L, 6L), usesOnly.stream().map(PointHistory::updateMillis).toList());
+    }
+
+    @Test
+    void 시각이_뒤로_돌아간_내역이_있어도_시각_범위로_빠짐없이_거른다() {
+        // Given
+        pointHistoryTable.insert(1L, 100, TransactionType.CHARGE, 100);
+        pointHistoryTable.insert(1L, 200, TransactionType.CHARGE, 300);
+        pointHistoryTable.insert(1L, 300, TransactionType.USE, 200);
+        pointHistoryTable.insert(1L, 400, TransactionType.CHARGE, 400);
+
+        // When
+        List<PointHistory> inRange = pointHistoryTable.selectPageByUserId(1L,
+                new PointHistoryStore.PageQuery(0, 150, 250, null, 10));
+        List<PointHistory> fromOnly = pointHistoryTable.selectPageByUserId(1L,
+                new PointHistoryStore.PageQuery(0, 250, Long.MAX_VALUE, null, 10));
+
+        // Then
+        assertEquals(List.of(300L), inRange.stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(200L, 400L), fromOnly.stream().map(PointHistory::amount).toList());
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedUserPointTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 잔액이_없는_사용자를_조회하면_0포인트를_반환한다() {
+        // Given
+        try (MappedUserPointTable mappedUserPointTable = new MappedUserPointTable(directory.resolve("points.dat"), 100)) {
+            // When
+            UserPoint result = mappedUserPointTable.selectById(1L);
+
+            // Then
+            assertEquals(1L, result.id());
+            assertEquals(0, result.point());
+        }
+    }
+
+    @Test
+    void 파일을_다시_열어도_저장한_잔액이_남아있다() {
+        // Given
+        Path file = directory.resolve("points.dat");
+        UserPoint saved;
+        try (MappedUserPointTable mappedUserPointTable = new MappedUserPointTable(file, 1000)) {
+            for (long id = 1; id <= 500; id++) {
+                mappedUserPointTable.insertOrUpdate(id, id * 10);
+            }
+            saved = mappedUserPointTable.insertOrUpdate(1L, 300);
+        }
+
+        // When
+        try (MappedUserPointTable reopened = new MappedUserPointTable(file, 1000)) {
+            // Then
+            assertEquals(saved, reopened.selectById(1L));
+            for (long id = 2; id <= 500; id++) {
+                assertEquals(id * 10, reopened.selectById(id).point());
+            }
+            assertEquals(500, reopened.size());
+        }
+    }
+
+    @Test
+    void 용량을_초과해서_새_사용자를_저장할_수_없다() {
+        // Given
+        try (MappedUserPointTable mappedUserPointTable = new MappedUserPointTable(directory.resolve("points.dat"), 3)) {
+            mappedUserPointTable.insertOrUpdate(1L, 100);
+            mappedUserPointTable.insertOrUpdate(2L, 100);
+            mappedUserPointTable.insertOrUpdate(3L, 100);
+
+            // When
+            Exception exception = assertThrows(IllegalStateException.class,
+                    () -> mappedUserPointTable.insertOrUpdate(4L, 100));
+
+            // Then
+            assertEquals(true, exception.getMessage().startsWith("잔액 파일의 용량을 초과했습니다."));
+            // 이미 있는 사용자는 계속 갱신할 수 있다.
+            assertEquals(100, mappedUserPointTable.insertOrUpdate(3L, 100).point());
+        }
+    }
+
+    @Test
+    void 파일을_다시_열면_잔액이_저장된_사용자만_있다고_확인한다() {
+        // Given
+        Path file = directory.resolve("points.dat");
+        try (MappedUserPointTable mappedUserPointTable = new MappedUserPointTable(file, 1000)) {
+            for (long id = 1; id <= 300; id++) {
+                mappedUserPointTable.insertOrUpdate(id, id);
+            }
+        }
+
+        // When
+        Set<Long> ids = new HashSet<>();
+        try (MappedUserPointTable reopened = new MappedUserPointTable(file, 1000)) {
+            for (long id = 1; id <= 1000; id++) {
+                if (reopened.contains(id)) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        // Then
+        assertEquals(300, ids.size());
+        for (long id = 1; id <= 300; id++) {
+            assertTrue(ids.contains(id));
+        }
+    }
+}
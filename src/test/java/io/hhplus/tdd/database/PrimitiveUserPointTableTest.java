@@ -0,0 +1,91 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PrimitiveUserPointTableTest {
+
+    private final PrimitiveUserPointTable primitiveUserPointTable = new PrimitiveUserPointTable();
+
+    @Test
+    void 잔액이_없는_사용자를_조회하면_0포인트를_반환한다() {
+        // When
+        UserPoint result = primitiveUserPointTable.selectById(1L);
+
+        // Then
+        assertEquals(1L, result.id());
+        assertEquals(0, result.point());
+    }
+
+    @Test
+    void 저장한_잔액을_덮어쓰고_다시_조회할_수_있다() {
+        // Given
+        primitiveUserPointTable.insertOrUpdate(1L, 100);
+
+        // When
+        UserPoint updated = primitiveUserPointTable.insertOrUpdate(1L, 300);
+        UserPoint result = primitiveUserPointTable.selectById(1L);
+
+        // Then
+        assertEquals(updated, result);
+        assertEquals(300, result.point());
+        assertEquals(1, primitiveUserPointTable.size());
+    }
+
+    @Test
+    void 초기_용량을_넘게_저장해도_모든_잔액을_찾을_수_있다() {
+        // Given
+        int users = 5_000;
+
+        // When
+        for (long id = 1; id <= users; id++) {
+            primitiveUserPointTable.insertOrUpdate(id, id * 10);
+        }
+
+        // Then
+        for (long id = 1; id <= users; id++) {
+            assertEquals(id * 10, primitiveUserPointTable.selectById(id).point());
+        }
+        assertEquals(users, primitiveUserPointTable.size());
+    }
+
+    @Test
+    void 여러_사용자의_잔액을_한번에_저장한다() {
+        // Given
+        primitiveUserPointTable.insertOrUpdate(1L, 100);
+        Map<Long, Long> balances = new HashMap<>();
+        for (long id = 1; id <= 5_000; id++) {
+            balances.put(id, id * 10);
+        }
+
+        // When
+        List<UserPoint> inserted = primitiveUserPointTable.insertAll(balances);
+
+        // Then
+        assertEquals(5_000, inserted.size());
+        for (long id = 1; id <= 5_000; id++) {
+            assertEquals(id * 10, primitiveUserPointTable.selectById(id).point());
+        }
+        assertEquals(5_000, primitiveUserPointTable.size());
+    }
+
+    @Test
+    void 여러_사용자의_잔액을_ID_순서대로_한번에_조회한다() {
+        // Given
+        primitiveUserPointTable.insertOrUpdate(1L, 100);
+        primitiveUserPointTable.insertOrUpdate(3L, 300);
+
+        // When
+        List<UserPoint> selected = primitiveUserPointTable.selectAllByIds(List.of(3L, 2L, 1L));
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), selected.stream().map(UserPoint::id).toList());
+        assertEquals(List.of(300L, 0L, 100L), selected.stream().map(UserPoint::point).toList());
+    }
+}
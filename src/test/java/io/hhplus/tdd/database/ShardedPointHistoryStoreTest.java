@@ -0,0 +1,66 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.database.PointHistoryStore.NewPointHistory;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ShardedPointHistoryStoreTest {
+    // 홀수 ID 는 0번, 짝수 ID 는 1번 파티션
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final IndexedPointHistoryTable odd = new IndexedPointHistoryTable(cursor);
+    private final IndexedPointHistoryTable even = new IndexedPointHistoryTable(cursor);
+    private final ShardedPointHistoryStore store = new ShardedPointHistoryStore(List.of(odd, even), id -> (int) (id % 2 == 0 ? 1 : 0));
+
+    @Test
+    void insertAll_은_파티션별로_나눠_저장하고_입력_순서대로_돌려준다() {
+        // Given
+        List<NewPointHistory> histories = List.of(
+                new NewPointHistory(1L, 100, TransactionType.CHARGE, 1),
+                new NewPointHistory(2L, 200, TransactionType.CHARGE, 2),
+                new NewPointHistory(3L, 300, TransactionType.CHARGE, 3),
+                new NewPointHistory(2L, 50, TransactionType.USE, 4));
+
+        // When
+        List<PointHistory> inserted = store.insertAll(histories);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 2L), inserted.stream().map(PointHistory::userId).toList());
+        assertEquals(List.of(100L, 200L, 300L, 50L), inserted.stream().map(PointHistory::amount).toList());
+        assertEquals(Set.of(1L, 3L), odd.selectAllUserIds());
+        assertEquals(2, even.selectAllByUserId(2L).size());
+    }
+
+    @Test
+    void 파티션이_공유하는_cursor_로_id_를_겹치지_않게_발급한다() {
+        // When
+        store.insert(1L, 100, TransactionType.CHARGE, 1);
+        store.insert(2L, 100, TransactionType.CHARGE, 2);
+        store.insert(3L, 100, TransactionType.CHARGE, 3);
+
+        // Then
+        assertEquals(List.of(1L), store.selectAllByUserId(1L).stream().map(PointHistory::id).toList());
+        assertEquals(List.of(2L), store.selectAllByUserId(2L).stream().map(PointHistory::id).toList());
+        assertEquals(List.of(3L), store.selectAllByUserId(3L).stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void selectAllUserIds_는_모든_파티션의_사용자를_합친다() {
+        // Given
+        store.insert(1L, 100, TransactionType.CHARGE, 1);
+        store.insert(2L, 100, TransactionType.CHARGE, 2);
+        store.insert(4L, 100, TransactionType.CHARGE, 3);
+
+        // When
+        Set<Long> userIds = store.selectAllUserIds();
+
+        // Then
+        assertEquals(Set.of(1L, 2L, 4L), userIds);
+    }
+}
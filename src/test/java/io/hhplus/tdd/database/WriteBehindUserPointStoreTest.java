@@ -0,0 +1,145 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WriteBehindUserPointStoreTest {
+
+    private final CountingUserPointStore delegate = new CountingUserPointStore();
+    // 테스트에서 직접 flush 하도록 주기를 길게 둔다.
+    private final WriteBehindUserPointStore writeBehind =
+            new WriteBehindUserPointStore(delegate, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.close();
+    }
+
+    @Test
+    void 변경한_잔액은_저장소에_반영되기_전에도_메모리에서_조회된다() {
+        // When
+        writeBehind.insertOrUpdate(1L, 100);
+
+        // Then
+        assertEquals(100, writeBehind.selectById(1L).point());
+        assertEquals(0, delegate.selects.get());
+        assertEquals(0, delegate.table.selectById(1L).point());
+        assertEquals(1, writeBehind.dirtyCount());
+    }
+
+    @Test
+    void 같은_사용자의_연속된_변경은_한번의_저장으로_합쳐진다() {
+        // Given
+        writeBehind.insertOrUpdate(1L, 100);
+        writeBehind.insertOrUpdate(1L, 200);
+        writeBehind.insertOrUpdate(1L, 300);
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        assertEquals(1, delegate.writes.get());
+        assertEquals(300, delegate.table.selectById(1L).point());
+        assertEquals(0, writeBehind.dirtyCount());
+        assertEquals(0, writeBehind.flushLagMillis());
+    }
+
+    @Test
+    void 여러_사용자의_dirty_잔액은_한번의_insertAll_로_반영한다() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            writeBehind.insertOrUpdate(id, id * 100);
+        }
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        assertEquals(1, delegate.batches.get());
+        for (long id = 1; id <= 5; id++) {
+            assertEquals(id * 100, delegate.table.selectById(id).point());
+        }
+        assertEquals(0, writeBehind.dirtyCount());
+    }
+
+    @Test
+    void 메모리에_없는_잔액은_저장소에서_한번만_읽어온다() {
+        // Given
+        delegate.table.insertOrUpdate(1L, 500);
+
+        // When
+        UserPoint first = writeBehind.selectById(1L);
+        UserPoint second = writeBehind.selectById(1L);
+
+        // Then
+        assertEquals(500, first.point());
+        assertEquals(first, second);
+        assertEquals(1, delegate.selects.get());
+    }
+
+    @Test
+    void 여러_사용자를_조회하면_메모리에_없는_잔액만_저장소에서_읽고_메모리에_올리지_않는다() {
+        // Given
+        delegate.table.insertOrUpdate(1L, 100);
+        delegate.table.insertOrUpdate(2L, 200);
+        // 저장소에 반영되지 않은 잔액
+        writeBehind.insertOrUpdate(2L, 250);
+
+        // When
+        List<UserPoint> selected = writeBehind.selectAllByIds(List.of(1L, 2L));
+
+        // Then
+        assertEquals(List.of(100L, 250L), selected.stream().map(UserPoint::point).toList());
+        assertEquals(1, delegate.selects.get());
+        // 메모리에 올리지 않았으므로 다시 조회하면 저장소에서 읽는다.
+        writeBehind.selectById(1L);
+        assertEquals(2, delegate.selects.get());
+    }
+
+    @Test
+    void 종료하면_남은_잔액을_모두_반영한다() {
+        // Given
+        writeBehind.insertOrUpdate(1L, 100);
+        writeBehind.insertOrUpdate(2L, 200);
+
+        // When
+        writeBehind.close();
+
+        // Then
+        assertEquals(100, delegate.table.selectById(1L).point());
+        assertEquals(200, delegate.table.selectById(2L).point());
+    }
+
+    private static class CountingUserPointStore implements UserPointStore {
+        private final UserPointTable table = new UserPointTable();
+        private final AtomicInteger selects = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicInteger batches = new AtomicInteger();
+
+        @Override
+        public UserPoint selectById(long id) {
+            selects.incrementAndGet();
+            return table.selectById(id);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writes.incrementAndGet();
+            return table.insertOrUpdate(id, amount);
+        }
+
+        @Override
+        public List<UserPoint> insertAll(Map<Long, Long> balances) {
+            batches.incrementAndGet();
+            return UserPointStore.super.insertAll(balances);
+        }
+    }
+}
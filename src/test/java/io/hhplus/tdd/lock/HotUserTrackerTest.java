@@ -0,0 +1,62 @@
+package io.hhplus.tdd.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HotUserTrackerTest {
+
+    private final HotUserTracker tracker = new HotUserTracker(3, 1024, 1_000);
+
+    @Test
+    void 누적_대기_시간이_긴_사용자_순서로_topK_명을_돌려준다() {
+        // Given
+        for (long id = 1; id <= 100; id++) {
+            tracker.record(id, 1_000);
+        }
+        for (int i = 0; i < 50; i++) {
+            tracker.record(7L, 10_000);
+            tracker.record(42L, 5_000);
+        }
+
+        // When
+        List<HotUserTracker.HotUser> hotUsers = tracker.topUsers(2, id -> id == 7L ? 3 : 0);
+
+        // Then
+        assertEquals(List.of(7L, 42L), hotUsers.stream().map(HotUserTracker.HotUser::userId).toList());
+        HotUserTracker.HotUser hottest = hotUsers.get(0);
+        assertTrue(hottest.contentions() >= 51);
+        assertTrue(hottest.waitNanos() >= 501_000);
+        assertEquals(3, hottest.queueLength());
+    }
+
+    @Test
+    void minWait_보다_짧게_기다린_경우는_세지_않는다() {
+        // When
+        tracker.record(1L, 999);
+
+        // Then
+        assertTrue(tracker.topUsers(10, id -> 0).isEmpty());
+    }
+
+    @Test
+    void decay_하면_누적_값이_절반이_되고_0이_된_사용자는_빠진다() {
+        // Given
+        tracker.record(1L, 1 << 20);
+        tracker.record(2L, 1_000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            tracker.decay();
+        }
+
+        // Then
+        List<HotUserTracker.HotUser> hotUsers = tracker.topUsers(10, id -> 0);
+        assertEquals(1, hotUsers.size());
+        assertEquals(1L, hotUsers.get(0).userId());
+        assertEquals(1 << 10, hotUsers.get(0).waitNanos());
+    }
+}
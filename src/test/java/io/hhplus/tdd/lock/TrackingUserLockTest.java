@@ -0,0 +1,61 @@
+package io.hhplus.tdd.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TrackingUserLockTest {
+
+    private final HotUserTracker tracker = new HotUserTracker(3, 1024, 0);
+    // 모든 ID 가 하나의 lock 을 공유한다.
+    private final UserLockStrategy userLock = new TrackingUserLock(new StripedUserLock(1), tracker);
+
+    @Test
+    void 같은_lock_을_공유하는_다른_ID_때문에_기다린_시간은_기록하지_않는다() throws InterruptedException {
+        // Given
+        userLock.lock(1L);
+        Thread waiter = new Thread(() -> {
+            userLock.lock(2L);
+            userLock.unlock(2L);
+        });
+
+        // When
+        waiter.start();
+        Thread.sleep(50);
+        int queueLength = userLock.queueLength(2L);
+        userLock.unlock(1L);
+        waiter.join();
+
+        // Then
+        assertEquals(0, queueLength);
+        assertEquals(List.of(), tracker.topUsers(10, userLock::queueLength));
+    }
+
+    @Test
+    void 같은_ID_를_기다린_시간은_그_ID_로_기록한다() throws InterruptedException {
+        // Given
+        userLock.lock(1L);
+        Thread waiter = new Thread(() -> {
+            userLock.lock(1L);
+            userLock.unlock(1L);
+        });
+
+        // When
+        waiter.start();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (userLock.queueLength(1L) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        int queueLength = userLock.queueLength(1L);
+        userLock.unlock(1L);
+        waiter.join();
+
+        // Then
+        assertEquals(1, queueLength);
+        List<HotUserTracker.HotUser> hotUsers = tracker.topUsers(10, userLock::queueLength);
+        assertEquals(List.of(1L), hotUsers.stream().map(HotUserTracker.HotUser::userId).toList());
+        assertEquals(0, hotUsers.get(0).queueLength());
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserLockStrategyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS = 10_000;
+
+    @Test
+    void MAP_방식은_같은_ID의_작업을_직렬화한다() throws InterruptedException {
+        assertSerialized(UserLockStrategy.Type.MAP.create(0));
+    }
+
+    @Test
+    void STRIPED_방식은_같은_ID의_작업을_직렬화한다() throws InterruptedException {
+        assertSerialized(UserLockStrategy.Type.STRIPED.create(4));
+    }
+
+    @Test
+    void CAS_방식은_같은_ID의_작업을_직렬화한다() throws InterruptedException {
+        assertSerialized(UserLockStrategy.Type.CAS.create(4));
+    }
+
+    @Test
+    void STRIPED_방식은_사용자_수와_관계없이_lock_개수가_고정된다() {
+        // Given
+        StripedUserLock userLock = new StripedUserLock(100);
+
+        // When
+        for (long id = 1; id <= 100_000; id++) {
+            userLock.lock(id);
+            userLock.unlock(id);
+        }
+
+        // Then
+        assertEquals(128, userLock.stripes());
+    }
+
+    @Test
+    void lock을_기다리는_스레드_수를_알_수_있다() throws InterruptedException {
+        for (UserLockStrategy.Type type : UserLockStrategy.Type.values()) {
+            // Given
+            UserLockStrategy userLock = type.create(4);
+            userLock.lock(1L);
+            Thread waiter = new Thread(() -> {
+                userLock.lock(1L);
+                userLock.unlock(1L);
+            });
+
+            // When
+            waiter.start();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (userLock.queueLength(1L) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Then
+            assertEquals(1, userLock.queueLength(1L), type.name());
+            userLock.unlock(1L);
+            waiter.join();
+            assertEquals(0, userLock.queueLength(1L), type.name());
+        }
+    }
+
+    // 여러 스레드가 lock 안에서 동기화 없이 카운터를 올려도 값이 유실되지 않아야 한다.
+    private void assertSerialized(UserLockStrategy userLock) throws InterruptedException {
+        long[] counter = new long[1];
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < INCREMENTS; i++) {
+                    userLock.lock(1L);
+                    try {
+                        counter[0]++;
+                    } finally {
+                        userLock.unlock(1L);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals((long) THREADS * INCREMENTS, counter[0]);
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.mailbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserMailboxExecutorTest {
+
+    private final UserMailboxExecutor mailbox = new UserMailboxExecutor(4);
+
+    @AfterEach
+    void tearDown() {
+        mailbox.close();
+    }
+
+    @Test
+    void 같은_사용자의_작업은_들어온_순서대로_하나씩_실행된다() {
+        // Given
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> executed = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            int sequence = i;
+            expected.add(sequence);
+            // 동기화 없이 추가해도 single writer 이므로 유실되지 않아야 한다.
+            futures.add(mailbox.submit(1L, () -> {
+                executed.add(sequence);
+                return sequence;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    void 다른_사용자의_작업은_동시에_실행된다() throws InterruptedException {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Boolean> user1 = mailbox.submit(1L, () -> awaitQuietly(bothStarted));
+        CompletableFuture<Boolean> user2 = mailbox.submit(2L, () -> awaitQuietly(bothStarted));
+
+        // Then
+        assertTrue(user1.join());
+        assertTrue(user2.join());
+    }
+
+    @Test
+    void 작업이_던진_예외는_future에_그대로_담기고_다음_작업은_계속_실행된다() {
+        // When
+        CompletableFuture<Object> failed = mailbox.submit(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        });
+        CompletableFuture<String> next = mailbox.submit(1L, () -> "다음");
+
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("다음", next.join());
+    }
+
+    @Test
+    void 처리가_끝난_mailbox는_제거된다() {
+        // When
+        mailbox.submit(1L, () -> 1).join();
+        mailbox.submit(2L, () -> 2).join();
+
+        // Then
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (mailbox.pendingMailboxes() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, mailbox.pendingMailboxes());
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,17 +15,17 @@ import static org.mockito.Mockito.*;
 public class ChargePointServiceTest {
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryTable;
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointStore userPointTable;
 
     private PointService pointService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        pointService = new PointService(pointHistoryTable, userPointTable);
+        pointService = PointService.builder(pointHistoryTable, userPointTable).build();
     }
 
     @Test
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GetPointHistoryPageServiceTest {
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+    private final PointService pointService = PointService.builder(pointHistoryTable,
+                    new TableUserPointStore(new UserPointTable()))
+            .knownUserRegistry(knownUserRegistry)
+            .pointSummaries(new PointSummaries())
+            .build();
+
+    @Test
+    void nextCursor를_따라가면_모든_내역을_한_번씩_조회한다() {
+        // Given
+        for (long millis = 1; millis <= 5; millis++) {
+            pointHistoryTable.insert(1L, 100, TransactionType.CHARGE, millis);
+        }
+        knownUserRegistry.register(1L);
+
+        // When
+        List<PointHistory> histories = new ArrayList<>();
+        Long cursor = 0L;
+        int pages = 0;
+        while (cursor != null) {
+            PointHistoryPage page = pointService.getPointHistoryPage(1L, cursor, null, null, null, 2);
+            histories.addAll(page.histories());
+            cursor = page.nextCursor();
+            pages++;
+        }
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), histories.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 마지막_페이지의_nextCursor는_null이다() {
+        // Given
+        pointHistoryTable.insert(1L, 100, TransactionType.CHARGE, 1);
+        pointHistoryTable.insert(1L, 100, TransactionType.CHARGE, 2);
+        knownUserRegistry.register(1L);
+
+        // When
+        PointHistoryPage page = pointService.getPointHistoryPage(1L, 0, null, null, null, 2);
+
+        // Then
+        assertEquals(2, page.histories().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void 페이지_크기가_범위를_벗어나면_IllegalArgumentException이_발생한다() {
+        // When
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> pointService.getPointHistoryPage(1L, 0, null, null, null, 0));
+
+        // Then
+        assertEquals("페이지 크기는 1 이상 1000 이하 이어야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 내역이_없는_사용자의_페이지를_조회하면_UserNotFoundException이_발생한다() {
+        // When
+        Exception exception = assertThrows(UserNotFoundException.class,
+                () -> pointService.getPointHistoryPage(1L, 0, null, null, null, 10));
+
+        // Then
+        assertEquals("사용자 정보가 없습니다.", exception.getMessage());
+    }
+}
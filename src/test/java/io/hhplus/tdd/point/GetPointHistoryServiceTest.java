@@ -1,7 +1,7 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.excpetion.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,17 +19,17 @@ import static org.mockito.Mockito.*;
 
 public class GetPointHistoryServiceTest {
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryTable;
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointStore userPointTable;
 
     private PointService pointService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        pointService = new PointService(pointHistoryTable, userPointTable);
+        pointService = PointService.builder(pointHistoryTable, userPointTable).build();
     }
 
     @Test
@@ -83,4 +83,27 @@ public class GetPointHistoryServiceTest {
         verify(pointHistoryTable).selectAllByUserId(userId);
     }
 
+    @Test
+    void PointHistory가_없어도_알고_있는_사용자면_빈_목록을_반환한다() {
+        // Given
+        // 잔액 파일(MAPPED)에만 잔액이 남아있고 내역은 없는 사용자
+        long userId = 1L;
+        KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+        knownUserRegistry.register(userId);
+        PointService restored = PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(knownUserRegistry)
+                .pointSummaries(new PointSummaries())
+                .build();
+        when(pointHistoryTable.selectAllByUserId(userId))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        List<PointHistory> result = restored.getPointHistory(userId);
+
+        // Then
+        assertEquals(List.of(), result);
+
+        verify(pointHistoryTable).selectAllByUserId(userId);
+    }
+
 }
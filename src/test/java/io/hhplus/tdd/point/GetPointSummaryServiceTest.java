@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GetPointSummaryServiceTest {
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+
+    @Test
+    void 충전과_사용을_할_때마다_누적_집계가_갱신된다() {
+        // Given
+        PointService pointService = PointService.builder(pointHistoryTable, userPointTable).build();
+        pointService.chargePoint(1L, 1000);
+        pointService.chargePoint(1L, 500);
+        pointService.usePoint(1L, 300);
+
+        // When
+        PointSummary summary = pointService.getPointSummary(1L);
+
+        // Then
+        assertEquals(1500, summary.totalCharged());
+        assertEquals(300, summary.totalUsed());
+        assertEquals(2, summary.chargeCount());
+        assertEquals(1, summary.useCount());
+        assertTrue(summary.firstUpdateMillis() <= summary.lastUpdateMillis());
+    }
+
+    @Test
+    void 기동_시점에_이미_쌓여있는_내역으로_집계를_다시_만든다() {
+        // Given
+        pointHistoryTable.insert(1L, 1000, TransactionType.CHARGE, 10);
+        pointHistoryTable.insert(1L, 200, TransactionType.USE, 20);
+        pointHistoryTable.insert(1L, 100, TransactionType.USE, 30);
+
+        // When
+        PointSummary summary = PointService.builder(pointHistoryTable, userPointTable).build().getPointSummary(1L);
+
+        // Then
+        assertEquals(new PointSummary(1L, 1000, 300, 1, 2, 10, 30), summary);
+    }
+
+    @Test
+    void 내역이_없는_사용자의_집계를_조회하면_UserNotFoundException이_발생한다() {
+        // Given
+        PointService pointService = PointService.builder(pointHistoryTable, userPointTable).build();
+
+        // When
+        Exception exception = assertThrows(UserNotFoundException.class,
+                () -> pointService.getPointSummary(1L));
+
+        // Then
+        assertEquals("사용자 정보가 없습니다.", exception.getMessage());
+    }
+}
@@ -1,7 +1,7 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.excpetion.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,25 +9,29 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.util.Collections;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 public class GetUserPointServiceTest {
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryTable;
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointStore userPointTable;
+
+    private KnownUserRegistry knownUserRegistry;
 
     private PointService pointService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        pointService = new PointService(pointHistoryTable, userPointTable);
+        knownUserRegistry = new KnownUserRegistry();
+        pointService = PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(knownUserRegistry)
+                .pointSummaries(new PointSummaries())
+                .build();
     }
 
     @Test
@@ -47,8 +51,6 @@ public class GetUserPointServiceTest {
     void PointHistory가_없는_사용자의_포인트내역을_조회하면_UserNotFoundException이_발생한다() {
         //  Given
         long userId = 1L;
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.emptyList());
 
         //  When
         Exception exception = assertThrows(UserNotFoundException.class,
@@ -57,7 +59,7 @@ public class GetUserPointServiceTest {
         //  Then
         assertEquals("사용자 정보가 없습니다.", exception.getMessage());
 
-        verify(pointHistoryTable).selectAllByUserId(userId);
+        verifyNoInteractions(pointHistoryTable, userPointTable);
     }
 
     @Test
@@ -67,9 +69,7 @@ public class GetUserPointServiceTest {
         long userId = 1L;
 
         UserPoint mockUserPoint = mock(UserPoint.class);
-        PointHistory mockPointHistory = mock(PointHistory.class);
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.singletonList(mockPointHistory));
+        knownUserRegistry.register(userId);
         when(userPointTable.selectById(userId))
                 .thenReturn(mockUserPoint);
 
@@ -79,9 +79,9 @@ public class GetUserPointServiceTest {
         //  Then
         assertEquals(mockUserPoint, result);
 
-        verify(pointHistoryTable).selectAllByUserId(userId);
         verify(userPointTable).selectById(userId);
-        verifyNoMoreInteractions(pointHistoryTable, userPointTable);
+        verifyNoInteractions(pointHistoryTable);
+        verifyNoMoreInteractions(userPointTable);
     }
 
 
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KnownUserRegistryTest {
+
+    private final KnownUserRegistry knownUserRegistry = new KnownUserRegistry();
+
+    @Test
+    void 등록하지_않은_사용자는_존재하지_않는다() {
+        assertFalse(knownUserRegistry.contains(1L));
+    }
+
+    @Test
+    void 등록한_사용자는_존재하고_중복_등록해도_한번만_저장된다() {
+        // When
+        knownUserRegistry.register(1L);
+        knownUserRegistry.register(1L);
+
+        // Then
+        assertTrue(knownUserRegistry.contains(1L));
+        assertEquals(1, knownUserRegistry.size());
+    }
+
+    @Test
+    void 힙에_없는_사용자는_저장소로_확인하고_저장소가_아는_사용자는_힙에_등록하지_않는다() {
+        // Given
+        KnownUserRegistry stored = new KnownUserRegistry(id -> id == 7L);
+
+        // When
+        stored.register(7L);
+        stored.register(8L);
+
+        // Then
+        assertTrue(stored.contains(7L));
+        assertTrue(stored.contains(8L));
+        assertFalse(stored.contains(9L));
+        assertEquals(1, stored.size());
+    }
+
+    @Test
+    void 초기_용량을_넘게_등록해도_모든_사용자를_찾을_수_있다() {
+        // When
+        for (long id = 1; id <= 100_000; id++) {
+            knownUserRegistry.register(id);
+        }
+
+        // Then
+        for (long id = 1; id <= 100_000; id++) {
+            assertTrue(knownUserRegistry.contains(id));
+        }
+        assertFalse(knownUserRegistry.contains(100_001L));
+        assertEquals(100_000, knownUserRegistry.size());
+    }
+
+    @Test
+    void 내역의_사용자_목록으로_한번에_복구할_수_있다() {
+        // When
+        knownUserRegistry.registerAll(List.of(3L, 5L, 7L));
+
+        // Then
+        assertTrue(knownUserRegistry.contains(5L));
+        assertFalse(knownUserRegistry.contains(4L));
+    }
+
+    @Test
+    void ID가_0이하면_등록할_수_없다() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> knownUserRegistry.register(0L));
+
+        assertEquals("ID는 1 이상 이어야 합니다.", exception.getMessage());
+    }
+}
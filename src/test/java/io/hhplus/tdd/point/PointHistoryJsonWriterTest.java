@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryStore.NewPointHistory;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PointHistoryJsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PointHistoryJsonWriter pointHistoryJsonWriter = new PointHistoryJsonWriter(objectMapper);
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final PointService pointService = PointService.builder(pointHistoryTable,
+            new TableUserPointStore(new UserPointTable())).build();
+
+    @Test
+    void 여러_chunk에_걸친_내역을_목록_전체를_직렬화한_것과_같은_JSON으로_내보낸다() throws IOException {
+        // Given
+        int rows = PointService.HISTORY_CHUNK_SIZE * 2 + 10;
+        List<NewPointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            histories.add(new NewPointHistory(1L, i + 1, TransactionType.CHARGE, i));
+        }
+        pointHistoryTable.insertAll(histories);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        Iterator<List<PointHistory>> chunks = pointService.streamPointHistory(1L);
+        pointHistoryJsonWriter.writeArray(chunks, output);
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(pointService.getPointHistory(1L)),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 내역_수가_chunk_크기와_같아도_빈_chunk를_돌려주지_않는다() throws IOException {
+        // Given
+        List<NewPointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < PointService.HISTORY_CHUNK_SIZE; i++) {
+            histories.add(new NewPointHistory(1L, 100, TransactionType.CHARGE, i));
+        }
+        pointHistoryTable.insertAll(histories);
+
+        // When
+        Iterator<List<PointHistory>> chunks = pointService.streamPointHistory(1L);
+        List<Integer> sizes = new ArrayList<>();
+        while (chunks.hasNext()) {
+            sizes.add(chunks.next().size());
+        }
+
+        // Then
+        assertEquals(List.of(PointService.HISTORY_CHUNK_SIZE), sizes);
+    }
+}
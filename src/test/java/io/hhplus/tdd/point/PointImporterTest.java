@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PointImporterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final PointService pointService = PointService.builder(new IndexedPointHistoryTable(), userPointTable).build();
+    // window 를 작게 두어 처리 중인 줄이 가득 찬 상황도 함께 확인한다. 한 줄은 64 byte 까지 읽는다.
+    private final PointImporter pointImporter = new PointImporter(pointService, objectMapper, 2, 64, 4);
+
+    @AfterEach
+    void tearDown() {
+        pointImporter.close();
+    }
+
+    @Test
+    void 줄마다_요청을_처리하고_읽은_순서대로_결과를_내보낸다() throws IOException {
+        // Given
+        String body = """
+                {"userId":1,"type":"CHARGE","amount":1000}
+                {"userId":2,"type":"CHARGE","amount":500}
+
+                {"userId":1,"type":"USE","amount":300}
+                {"userId":2,"type":"USE","amount":600}
+                {"userId":1,"type":"CHARGE","amount":100}
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long imported = pointImporter.importCommands(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        List<PointImportResult> results = read(output);
+        assertEquals(5, imported);
+        assertEquals(List.of(1L, 2L, 4L, 5L, 6L), results.stream().map(PointImportResult::line).toList());
+        assertEquals(1000, results.get(0).result().userPoint().point());
+        assertEquals(700, results.get(2).result().userPoint().point());
+        assertEquals(new ErrorResponse("400", "보유한 포인트를 초과해서 사용할 수 없습니다."), results.get(3).result().error());
+        assertEquals(800, userPointTable.selectById(1L).point());
+        assertEquals(500, userPointTable.selectById(2L).point());
+    }
+
+    @Test
+    void 읽을_수_없는_줄은_400_결과를_내보내고_다음_줄을_계속_처리한다() throws IOException {
+        // Given
+        String body = """
+                {"userId":1,"type":"CHARGE",
+                {"userId":1,"type":"CHARGE","amount":100}
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        pointImporter.importCommands(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        List<PointImportResult> results = read(output);
+        assertEquals(new ErrorResponse("400", "요청 형식이 올바르지 않습니다."), results.get(0).result().error());
+        assertEquals(100, results.get(1).result().userPoint().point());
+    }
+
+    @Test
+    void 최대_크기를_넘는_줄은_읽지_않고_400_결과를_내보낸_뒤_다음_줄을_계속_처리한다() throws IOException {
+        // Given
+        String body = "{\"userId\":1,\"type\":\"CHARGE\",\"amount\":100" + " ".repeat(100) + "}\n"
+                + "{\"userId\":1,\"type\":\"CHARGE\",\"amount\":100}\r\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long imported = pointImporter.importCommands(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        List<PointImportResult> results = read(output);
+        assertEquals(2, imported);
+        assertEquals(new ErrorResponse("400", "한 줄은 64 byte 를 넘을 수 없습니다."), results.get(0).result().error());
+        assertEquals(2, results.get(1).line());
+        assertEquals(100, results.get(1).result().userPoint().point());
+    }
+
+    private List<PointImportResult> read(ByteArrayOutputStream output) throws IOException {
+        List<PointImportResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, PointImportResult.class));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PointService pointService = PointService.builder(new IndexedPointHistoryTable(),
+                    new TableUserPointStore(new UserPointTable()))
+            .knownUserRegistry(new KnownUserRegistry())
+            .pointSummaries(new PointSummaries())
+            .metrics(new PointMetrics(registry))
+            .build();
+
+    @Test
+    void 연산마다_처리_시간과_lock_대기_시간을_기록한다() {
+        // When
+        pointService.chargePoint(1L, 100);
+        pointService.usePoint(1L, 10);
+        pointService.getUserPoint(1L);
+        pointService.getPointHistory(1L);
+
+        // Then
+        assertEquals(1, registry.get("point.operation").tag("operation", "charge").timer().count());
+        assertEquals(1, registry.get("point.operation").tag("operation", "use").timer().count());
+        assertEquals(1, registry.get("point.operation").tag("operation", "get_point").timer().count());
+        assertEquals(1, registry.get("point.operation").tag("operation", "get_history").timer().count());
+        assertEquals(1, registry.get("point.operation.lock_wait").tag("operation", "charge").timer().count());
+        assertEquals(1, registry.get("point.operation.validation").tag("operation", "use").timer().count());
+    }
+
+    @Test
+    void 거절된_요청은_검증_규칙별로_센다() {
+        // Given
+        pointService.chargePoint(1L, 100);
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> pointService.chargePoint(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> pointService.chargePoint(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> pointService.usePoint(1L, 1000));
+        assertThrows(RuntimeException.class, () -> pointService.getUserPoint(2L));
+
+        // Then
+        assertEquals(2.0, registry.get("point.rejections")
+                .tags("operation", "charge", "rule", "amount_below_min").counter().count());
+        assertEquals(1.0, registry.get("point.rejections")
+                .tags("operation", "use", "rule", "insufficient_balance").counter().count());
+        assertEquals(1.0, registry.get("point.rejections")
+                .tags("operation", "get_point", "rule", "user_not_found").counter().count());
+        assertEquals(3, registry.get("point.operation").tag("operation", "charge").timer().count());
+    }
+
+    @Test
+    void 비동기_조회도_처리_시간과_거절을_기록한다() {
+        // Given
+        pointService.chargePoint(1L, 100);
+
+        // When
+        pointService.getUserPointAsync(1L).join();
+        assertThrows(RuntimeException.class, () -> pointService.getUserPointAsync(2L).join());
+
+        // Then
+        assertEquals(2, registry.get("point.operation").tag("operation", "get_point").timer().count());
+        assertEquals(1, registry.get("point.operation.validation").tag("operation", "get_point").timer().count());
+        assertEquals(1.0, registry.get("point.rejections")
+                .tags("operation", "get_point", "rule", "user_not_found").counter().count());
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+import io.hhplus.tdd.lock.StripedUserLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PointServiceAsyncTest {
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final ExecutorService storageExecutor = PointExecutors.newFixedThreadPool("point-storage", 2);
+    private final PointService pointService = PointService.builder(pointHistoryTable, userPointTable)
+            .knownUserRegistry(new KnownUserRegistry())
+            .pointSummaries(new PointSummaries())
+            .storageExecutor(storageExecutor)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        storageExecutor.shutdownNow();
+    }
+
+    @Test
+    void 비동기로_충전_사용한_결과를_비동기로_조회할_수_있다() {
+        // When
+        UserPoint charged = pointService.chargePointAsync(1L, 100).join();
+        UserPoint used = pointService.usePointAsync(1L, 30).join();
+
+        // Then
+        assertEquals(100, charged.point());
+        assertEquals(70, used.point());
+        assertEquals(70, pointService.getUserPointAsync(1L).join().point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE),
+                pointService.getPointHistoryAsync(1L).join().stream().map(PointHistory::type).toList());
+    }
+
+    @Test
+    void 저장소_호출은_호출_스레드가_아닌_storage_스레드에서_수행된다() {
+        // Given
+        pointService.chargePoint(1L, 100);
+        String[] threads = new String[2];
+        PointService observed = PointService.builder(pointHistoryTable, new UserPointStore() {
+            @Override
+            public UserPoint selectById(long id) {
+                threads[0] = Thread.currentThread().getName();
+                return userPointTable.selectById(id);
+            }
+
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                threads[1] = Thread.currentThread().getName();
+                return userPointTable.insertOrUpdate(id, amount);
+            }
+        })
+                .knownUserRegistry(knownUsers(1L))
+                .pointSummaries(new PointSummaries())
+                .storageExecutor(storageExecutor)
+                .build();
+
+        // When
+        UserPoint userPoint = observed.getUserPointAsync(1L).join();
+        String reader = threads[0];
+        observed.chargePointAsync(1L, 100).join();
+
+        // Then
+        assertEquals(100, userPoint.point());
+        assertTrue(reader.startsWith("point-storage"));
+        assertTrue(threads[1].startsWith("point-storage"));
+    }
+
+    @Test
+    void 비동기_호출의_예외는_동기_호출과_같은_예외로_완료된다() {
+        // When
+        CompletableFuture<UserPoint> unknown = pointService.getUserPointAsync(1L);
+        CompletableFuture<UserPoint> invalid = pointService.chargePointAsync(1L, 0);
+        CompletableFuture<List<PointHistory>> histories = pointService.getPointHistoryAsync(1L);
+
+        // Then
+        assertInstanceOf(UserNotFoundException.class, assertThrows(CompletionException.class, unknown::join).getCause());
+        Throwable exception = assertThrows(CompletionException.class, invalid::join).getCause();
+        assertInstanceOf(IllegalArgumentException.class, exception);
+        assertEquals("1포인트 미만은 충전할 수 없습니다.", exception.getMessage());
+        assertInstanceOf(UserNotFoundException.class, assertThrows(CompletionException.class, histories::join).getCause());
+    }
+
+    @Test
+    void 사용자_lock_을_기다리는_충전은_조회를_막지_않고_write_대기열이_차면_거절된다() {
+        // Given
+        StripedUserLock userLock = new StripedUserLock(0);
+        ExecutorService writeExecutor = PointExecutors.newFixedThreadPool("point-write", 1, 1);
+        PointService separated = PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(knownUsers(1L))
+                .userLock(userLock)
+                .pointSummaries(new PointSummaries())
+                .storageExecutor(storageExecutor)
+                .writeExecutor(writeExecutor)
+                .build();
+        userLock.lock(1L);
+        // write 스레드 하나는 lock 을 기다리고, 하나는 대기열에 있다.
+        CompletableFuture<UserPoint> waiting = separated.chargePointAsync(1L, 100);
+        CompletableFuture<UserPoint> queued = separated.chargePointAsync(1L, 100);
+
+        // When
+        CompletableFuture<UserPoint> rejected = separated.chargePointAsync(1L, 100);
+        UserPoint read = separated.getUserPointAsync(1L).join();
+        userLock.unlock(1L);
+
+        // Then
+        assertInstanceOf(TooManyRequestsException.class,
+                assertThrows(CompletionException.class, rejected::join).getCause());
+        assertEquals(0, read.point());
+        assertEquals(100, waiting.join().point());
+        assertEquals(200, queued.join().point());
+        writeExecutor.shutdown();
+    }
+
+    private static KnownUserRegistry knownUsers(long... ids) {
+        KnownUserRegistry registry = new KnownUserRegistry();
+        for (long id : ids) {
+            registry.register(id);
+        }
+        return registry;
+    }
+}
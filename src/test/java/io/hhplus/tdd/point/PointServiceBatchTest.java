@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PointServiceBatchTest {
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final PointService pointService = PointService.builder(pointHistoryTable, userPointTable).build();
+
+    @Test
+    void 사용자별로_요청_순서대로_처리하고_요청과_같은_순서로_결과를_돌려준다() {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.CHARGE, 1000),
+                new PointCommand(2L, TransactionType.CHARGE, 500),
+                new PointCommand(1L, TransactionType.USE, 300),
+                new PointCommand(2L, TransactionType.USE, 200),
+                new PointCommand(1L, TransactionType.CHARGE, 100));
+
+        // When
+        List<PointCommandResult> results = pointService.applyAllAsync(commands).join();
+
+        // Then
+        assertEquals(List.of(1000L, 500L, 700L, 300L, 800L),
+                results.stream().map(result -> result.userPoint().point()).toList());
+        assertEquals(800, userPointTable.selectById(1L).point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE, TransactionType.CHARGE),
+                pointHistoryTable.selectAllByUserId(1L).stream().map(PointHistory::type).toList());
+    }
+
+    @Test
+    void 실패한_요청은_단건_API와_같은_에러를_담고_나머지_요청은_계속_처리한다() {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.USE, 100),
+                new PointCommand(2L, TransactionType.CHARGE, 0),
+                new PointCommand(2L, TransactionType.CHARGE, 100),
+                new PointCommand(2L, TransactionType.USE, 1000),
+                new PointCommand(3L, null, 100));
+
+        // When
+        List<PointCommandResult> results = pointService.applyAllAsync(commands).join();
+
+        // Then
+        assertEquals(new ErrorResponse("404", "사용자 정보가 없습니다."), results.get(0).error());
+        assertEquals(new ErrorResponse("400", "1포인트 미만은 충전할 수 없습니다."), results.get(1).error());
+        assertNull(results.get(2).error());
+        assertEquals(100, results.get(2).userPoint().point());
+        assertEquals(new ErrorResponse("400", "보유한 포인트를 초과해서 사용할 수 없습니다."), results.get(3).error());
+        assertEquals("400", results.get(4).error().code());
+        assertEquals(100, userPointTable.selectById(2L).point());
+    }
+}
@@ -1,6 +1,8 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.database.UserPointTable;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -15,9 +17,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PointServiceConcurrencyTest {
     private static final Logger logger = LoggerFactory.getLogger(PointServiceConcurrencyTest.class);
-    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
-    private final UserPointTable userPointTable = new UserPointTable();
-    private final PointService pointService = new PointService(pointHistoryTable, userPointTable);
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final PointService pointService = PointService.builder(pointHistoryTable, userPointTable).build();
 
     private final BlockingQueue<Runnable> taskQueue1 = new LinkedBlockingQueue<>();
     private final BlockingQueue<Runnable> taskQueue2 = new LinkedBlockingQueue<>();
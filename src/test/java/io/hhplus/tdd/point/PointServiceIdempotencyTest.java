@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointServiceIdempotencyTest {
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final IdempotencyCache idempotencyCache = new IdempotencyCache(1 << 20, Duration.ofMinutes(1));
+    private final ExecutorService storageExecutor = PointExecutors.newFixedThreadPool("point-storage", 4);
+
+    @AfterEach
+    void tearDown() {
+        storageExecutor.shutdownNow();
+    }
+
+    @Test
+    void 같은_키로_다시_충전하면_처음_결과를_돌려주고_한_번만_충전한다() {
+        // Given
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        PointService pointService = pointService(pointHistoryTable);
+        UserPoint first = pointService.chargePointAsync(1L, 100, "key-1").join();
+
+        // When
+        UserPoint retried = pointService.chargePointAsync(1L, 100, "key-1").join();
+
+        // Then
+        assertEquals(first, retried);
+        assertEquals(100, userPointTable.selectById(1L).point());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+        assertEquals(1, idempotencyCache.hits());
+        assertEquals(1, idempotencyCache.misses());
+    }
+
+    @Test
+    void 처리_중에_들어온_재시도는_lock_을_잡지_않고_같은_결과를_기다린다() throws InterruptedException {
+        // Given
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PointService pointService = pointService(new IndexedPointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                inserting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        });
+        CompletableFuture<UserPoint> first = pointService.chargePointAsync(1L, 100, "key-1");
+        inserting.await();
+
+        // When
+        CompletableFuture<UserPoint> retried = pointService.chargePointAsync(1L, 100, "key-1");
+
+        // Then
+        assertFalse(retried.isDone());
+        release.countDown();
+        assertSame(first.join(), retried.join());
+        assertEquals(100, userPointTable.selectById(1L).point());
+    }
+
+    @Test
+    void 같은_키로_금액이_다른_요청을_보내면_예외가_발생한다() {
+        // Given
+        PointService pointService = pointService(new IndexedPointHistoryTable());
+        pointService.chargePointAsync(1L, 100, "key-1").join();
+
+        // When
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> pointService.chargePointAsync(1L, 200, "key-1").join());
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(100, userPointTable.selectById(1L).point());
+    }
+
+    @Test
+    void 실패한_요청은_보관하지_않아_같은_키로_다시_처리한다() {
+        // Given
+        PointService pointService = pointService(new IndexedPointHistoryTable());
+        pointService.chargePoint(1L, 50);
+        assertThrows(CompletionException.class, () -> pointService.usePointAsync(1L, 100, "key-1").join());
+        pointService.chargePoint(1L, 50);
+
+        // When
+        UserPoint userPoint = pointService.usePointAsync(1L, 100, "key-1").join();
+
+        // Then
+        assertEquals(0, userPoint.point());
+    }
+
+    @Test
+    void 같은_키라도_사용자나_거래_종류가_다르면_따로_처리한다() {
+        // Given
+        PointService pointService = pointService(new IndexedPointHistoryTable());
+        pointService.chargePointAsync(1L, 100, "key-1").join();
+
+        // When
+        pointService.chargePointAsync(2L, 100, "key-1").join();
+        pointService.usePointAsync(1L, 100, "key-1").join();
+
+        // Then
+        assertEquals(0, userPointTable.selectById(1L).point());
+        assertEquals(100, userPointTable.selectById(2L).point());
+        assertEquals(0, idempotencyCache.hits());
+    }
+
+    @Test
+    void 처리한_결과가_있는_키만_find_로_찾는다() {
+        // Given
+        PointService pointService = pointService(new IndexedPointHistoryTable());
+        UserPoint first = pointService.chargePointAsync(1L, 100, "key-1").join();
+
+        // When
+        CompletableFuture<UserPoint> stored = idempotencyCache.find(1L, TransactionType.CHARGE, 100, "key-1");
+        CompletableFuture<UserPoint> missing = idempotencyCache.find(1L, TransactionType.CHARGE, 100, "key-2");
+
+        // Then
+        assertEquals(first, stored.join());
+        assertNull(missing);
+        assertEquals(1, idempotencyCache.hits());
+    }
+
+    private PointService pointService(IndexedPointHistoryTable pointHistoryTable) {
+        return PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(new KnownUserRegistry())
+                .pointSummaries(new PointSummaries())
+                .storageExecutor(storageExecutor)
+                .idempotencyCache(idempotencyCache)
+                .build();
+    }
+}
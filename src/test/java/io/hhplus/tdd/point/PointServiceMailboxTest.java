@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+import io.hhplus.tdd.mailbox.UserMailboxExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointServiceMailboxTest {
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final UserMailboxExecutor mailbox = new UserMailboxExecutor(2);
+    private final PointService pointService = PointService.builder(pointHistoryTable, userPointTable)
+            .knownUserRegistry(new KnownUserRegistry())
+            .pointSummaries(new PointSummaries())
+            .mailbox(mailbox)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        mailbox.close();
+    }
+
+    @Test
+    void 사용자별_요청은_mailbox에_들어온_순서대로_처리된다() {
+        // Given
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+
+        // When
+        futures.add(pointService.chargePointAsync(1L, 100));
+        futures.add(pointService.chargePointAsync(2L, 100));
+        futures.add(pointService.usePointAsync(2L, 50));
+        futures.add(pointService.chargePointAsync(1L, 100));
+        futures.add(pointService.usePointAsync(2L, 50));
+        futures.add(pointService.chargePointAsync(2L, 100));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(200, userPointTable.selectById(1L).point());
+        assertEquals(100, userPointTable.selectById(2L).point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE, TransactionType.USE, TransactionType.CHARGE),
+                pointHistoryTable.selectAllByUserId(2L).stream().map(PointHistory::type).toList());
+    }
+
+    @Test
+    void 동기_호출은_mailbox_처리_결과와_예외를_그대로_돌려준다() {
+        // When
+        UserPoint charged = pointService.chargePoint(1L, 100);
+
+        // Then
+        assertEquals(100, charged.point());
+        Exception exception = assertThrows(UserNotFoundException.class,
+                () -> pointService.usePoint(2L, 10));
+        assertEquals("사용자 정보가 없습니다.", exception.getMessage());
+    }
+}
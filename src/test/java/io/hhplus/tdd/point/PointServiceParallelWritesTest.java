@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PointServiceParallelWritesTest {
+    private final UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+    private final ExecutorService historyWriteExecutor = PointExecutors.newFixedThreadPool("point-history-write", 4);
+    private final ExecutorService requestExecutor = PointExecutors.newFixedThreadPool("request", 8);
+
+    @AfterEach
+    void tearDown() {
+        historyWriteExecutor.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    @Test
+    void 내역과_잔액을_동시에_저장해도_같은_사용자의_요청은_순서대로_반영된다() {
+        // Given
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        PointService pointService = pointService(pointHistoryTable);
+        pointService.chargePoint(1L, 1000);
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            requests.add(CompletableFuture.runAsync(() -> pointService.chargePoint(1L, 10), requestExecutor));
+            requests.add(CompletableFuture.runAsync(() -> pointService.usePoint(1L, 5), requestExecutor));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(1000 + 50 * 10 - 50 * 5, userPointTable.selectById(1L).point());
+        assertEquals(101, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 내역은_별도_스레드에서_저장되고_저장이_실패하면_같은_예외가_발생한다() {
+        // Given
+        String[] writer = new String[1];
+        PointService pointService = pointService(new IndexedPointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                writer[0] = Thread.currentThread().getName();
+                if (amount == 13) {
+                    throw new IllegalStateException("내역 저장 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        });
+
+        // When
+        pointService.chargePoint(1L, 100);
+        Exception exception = assertThrows(IllegalStateException.class, () -> pointService.chargePoint(1L, 13));
+
+        // Then
+        assertTrue(writer[0].startsWith("point-history-write"));
+        assertEquals("내역 저장 실패", exception.getMessage());
+    }
+
+    @Test
+    void 내역_저장이_실패하면_잔액과_집계를_되돌리고_다시_요청하면_한_번만_반영된다() {
+        // Given
+        boolean[] fail = {true};
+        PointService pointService = pointService(new IndexedPointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (amount == 300 && fail[0]) {
+                    throw new IllegalStateException("내역 저장 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        });
+        pointService.chargePoint(1L, 1000);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> pointService.usePoint(1L, 300));
+        long afterFailure = userPointTable.selectById(1L).point();
+        PointSummary summaryAfterFailure = pointService.getPointSummary(1L);
+        fail[0] = false;
+        pointService.usePoint(1L, 300);
+
+        // Then
+        assertEquals(1000, afterFailure);
+        assertEquals(0, summaryAfterFailure.totalUsed());
+        assertEquals(700, userPointTable.selectById(1L).point());
+        assertEquals(300, pointService.getPointSummary(1L).totalUsed());
+    }
+
+    private PointService pointService(IndexedPointHistoryTable pointHistoryTable) {
+        return PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(new KnownUserRegistry())
+                .pointSummaries(new PointSummaries())
+                .historyWriteExecutor(historyWriteExecutor)
+                .build();
+    }
+}
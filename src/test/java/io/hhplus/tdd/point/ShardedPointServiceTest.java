@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.concurrent.PointExecutors;
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointTable;
+import io.hhplus.tdd.excpetion.UserNotFoundException;
+import io.hhplus.tdd.lock.ShardedUserLock;
+import io.hhplus.tdd.lock.StripedUserLock;
+import io.hhplus.tdd.lock.UserLockStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedPointServiceTest {
+    private static final int PARTITIONS = 4;
+
+    private final LongToIntFunction partitioner = id -> ShardedPointService.partitionOf(id, PARTITIONS);
+    private final List<IndexedPointHistoryTable> historyTables = new ArrayList<>();
+    private final ExecutorService requestExecutor = PointExecutors.newFixedThreadPool("request", 8);
+    private final ShardedPointService pointService = pointService();
+
+    @AfterEach
+    void tearDown() {
+        requestExecutor.shutdownNow();
+    }
+
+    @Test
+    void 사용자는_항상_같은_파티션에_속하고_모든_파티션에_고르게_나뉜다() {
+        // Given
+        int[] counts = new int[PARTITIONS];
+
+        // When
+        for (long id = 1; id <= 100_000; id++) {
+            int partition = ShardedPointService.partitionOf(id, PARTITIONS);
+            assertEquals(partition, ShardedPointService.partitionOf(id, PARTITIONS));
+            counts[partition]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertTrue(count > 100_000 / PARTITIONS * 0.9);
+        }
+    }
+
+    @Test
+    void 충전한_사용자의_내역은_그_사용자의_파티션에만_저장된다() {
+        // When
+        pointService.chargePoint(1L, 100);
+        pointService.usePoint(1L, 30);
+
+        // Then
+        assertEquals(70, pointService.getUserPoint(1L).point());
+        assertEquals(2, pointService.getPointHistory(1L).size());
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            int expected = partition == partitioner.applyAsInt(1L) ? 2 : 0;
+            assertEquals(expected, historyTables.get(partition).selectAllByUserId(1L).size());
+        }
+    }
+
+    @Test
+    void 충전하지_않은_사용자는_조회할_수_없다() {
+        // Given
+        pointService.chargePoint(1L, 100);
+
+        // When
+        Exception exception = assertThrows(UserNotFoundException.class, () -> pointService.getUserPoint(2L));
+
+        // Then
+        assertEquals("사용자 정보가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 일괄_처리는_파티션별로_나눠_처리하고_요청_순서대로_결과를_돌려준다() {
+        // Given
+        List<PointCommand> commands = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            commands.add(new PointCommand(id, TransactionType.CHARGE, id * 10));
+        }
+        commands.add(new PointCommand(3L, TransactionType.USE, 1_000));
+
+        // When
+        List<PointCommandResult> results = pointService.applyAllAsync(commands).join();
+
+        // Then
+        assertEquals(commands.size(), results.size());
+        for (long id = 1; id <= 20; id++) {
+            assertEquals(id * 10, results.get((int) id - 1).userPoint().point());
+        }
+        assertEquals("400", results.get(20).error().code());
+    }
+
+    @Test
+    void 여러_파티션의_사용자에게_동시에_충전해도_모두_반영되고_내역_id_는_겹치지_않는다() {
+        // Given
+        List<CompletableFuture<?>> requests = new ArrayList<>();
+
+        // When
+        for (long id = 1; id <= 50; id++) {
+            long userId = id;
+            for (int i = 0; i < 10; i++) {
+                requests.add(CompletableFuture.runAsync(() -> pointService.chargePoint(userId, 10), requestExecutor));
+            }
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        Set<Long> historyIds = new HashSet<>();
+        for (long id = 1; id <= 50; id++) {
+            assertEquals(100, pointService.getUserPoint(id).point());
+            pointService.getPointHistory(id).forEach(history -> historyIds.add(history.id()));
+        }
+        assertEquals(500, historyIds.size());
+    }
+
+    private ShardedPointService pointService() {
+        AtomicLong historyCursor = new AtomicLong(1);
+        List<UserLockStrategy> locks = new ArrayList<>();
+        for (int i = 0; i < PARTITIONS; i++) {
+            historyTables.add(new IndexedPointHistoryTable(historyCursor));
+            locks.add(new StripedUserLock(0));
+        }
+        UserLockStrategy userLock = new ShardedUserLock(locks, partitioner);
+        List<PointService> partitions = new ArrayList<>();
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions.add(PointService.builder(historyTables.get(i), new PrimitiveUserPointTable())
+                    .knownUserRegistry(new KnownUserRegistry())
+                    .userLock(userLock)
+                    .pointSummaries(new PointSummaries())
+                    .build());
+        }
+        return new ShardedPointService(partitions);
+    }
+}
@@ -1,7 +1,7 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.UserPointStore;
 import io.hhplus.tdd.excpetion.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,24 +9,28 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.util.Collections;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 public class UsePointServiceTest {
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryTable;
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointStore userPointTable;
+
+    private KnownUserRegistry knownUserRegistry;
 
     private PointService pointService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        pointService = new PointService(pointHistoryTable, userPointTable);
+        knownUserRegistry = new KnownUserRegistry();
+        pointService = PointService.builder(pointHistoryTable, userPointTable)
+                .knownUserRegistry(knownUserRegistry)
+                .pointSummaries(new PointSummaries())
+                .build();
     }
 
     @Test
@@ -36,8 +40,6 @@ public class UsePointServiceTest {
         long userId = 1L;
         long amount = 100;
         long currentTime = System.currentTimeMillis();
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.emptyList());
 
         // When
         Exception exception = assertThrows(UserNotFoundException.class,
@@ -46,7 +48,7 @@ public class UsePointServiceTest {
         // Then
         assertEquals("사용자 정보가 없습니다.", exception.getMessage());
 
-        verify(pointHistoryTable).selectAllByUserId(userId);
+        verifyNoInteractions(pointHistoryTable, userPointTable);
     }
 
 
@@ -57,17 +59,13 @@ public class UsePointServiceTest {
         long amount = 0;
         long currentTime = System.currentTimeMillis();
 
-        PointHistory mockPointHistory = mock(PointHistory.class);
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.singletonList(mockPointHistory));
+        knownUserRegistry.register(userId);
         // When
         Exception exception = assertThrows(IllegalArgumentException.class,
                 () -> pointService.usePoint(userId, amount));
 
         // Then
         assertEquals("최소 1포인트부터 사용할 수 있습니다.", exception.getMessage());
-
-        verify(pointHistoryTable).selectAllByUserId(userId);
     }
 
     @Test
@@ -91,17 +89,13 @@ public class UsePointServiceTest {
         long amount = 10000000;
         long currentTime = System.currentTimeMillis();
 
-        PointHistory mockPointHistory = mock(PointHistory.class);
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.singletonList(mockPointHistory));
+        knownUserRegistry.register(userId);
         // When
         Exception exception = assertThrows(IllegalArgumentException.class,
                 () -> pointService.usePoint(userId, amount));
 
         // Then
         assertEquals("한번에 최대 100만 포인트까지 사용할 수 있습니다.", exception.getMessage());
-
-        verify(pointHistoryTable).selectAllByUserId(userId);
     }
 
     @Test
@@ -111,11 +105,9 @@ public class UsePointServiceTest {
         long userId = 1L;
         long amount = 1000;
         long currentTime = System.currentTimeMillis();
-        PointHistory mockPointHistory = mock(PointHistory.class);
         UserPoint mockUserPointOrigin = mock(UserPoint.class);
         when(mockUserPointOrigin.point()).thenReturn(100L);
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.singletonList(mockPointHistory));
+        knownUserRegistry.register(userId);
         when(userPointTable.selectById(userId)).thenReturn(mockUserPointOrigin);
 
         // When
@@ -125,7 +117,6 @@ public class UsePointServiceTest {
         // Then
         assertEquals("보유한 포인트를 초과해서 사용할 수 없습니다.", exception.getMessage());
 
-        verify(pointHistoryTable).selectAllByUserId(userId);
         verify(userPointTable).selectById(userId);
     }
 
@@ -135,13 +126,11 @@ public class UsePointServiceTest {
         long userId = 1L;
         long amount = 100;
 
-        PointHistory mockPointHistory = mock(PointHistory.class);
         UserPoint mockUserPointOrigin = mock(UserPoint.class);
         UserPoint mockUserPointUpdated = mock(UserPoint.class);
         when(mockUserPointOrigin.point()).thenReturn(300L);
         when(mockUserPointUpdated.point()).thenReturn(300L - amount);
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(Collections.singletonList(mockPointHistory));
+        knownUserRegistry.register(userId);
         when(userPointTable.selectById(userId))
                 .thenReturn(mockUserPointOrigin);
         when(userPointTable.insertOrUpdate(userId, mockUserPointOrigin.point() - amount))
@@ -152,8 +141,6 @@ public class UsePointServiceTest {
         // Then
         assertEquals(mockUserPointUpdated.point(), result.point());
 
-        verify(pointHistoryTable)
-                .selectAllByUserId(userId);
         verify(userPointTable)
                 .selectById(userId);
         verify(pointHistoryTable)
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.hhplus.tdd.excpetion.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserRateLimiterTest {
+
+    @Test
+    void burst_만큼은_바로_허용하고_그_다음_요청은_거절한다() {
+        // Given
+        UserRateLimiter limiter = new UserRateLimiter(1024, 1, 3, 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(1L);
+            limiter.release(1L);
+        }
+
+        // When
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> limiter.acquire(1L));
+
+        // Then
+        assertTrue(e.getRetryAfterMillis() > 0);
+        assertTrue(e.getRetryAfterMillis() <= 1_001);
+    }
+
+    @Test
+    void 다른_사용자의_한도에는_영향을_주지_않는다() {
+        // Given
+        UserRateLimiter limiter = new UserRateLimiter(1 << 16, 1, 1, 100);
+        limiter.acquire(1L);
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire(1L));
+
+        // When
+        limiter.acquire(2L);
+
+        // Then
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire(2L));
+    }
+
+    @Test
+    void 처리_중인_요청이_maxInFlight_개면_다시_시도할_시간과_함께_거절하고_끝나면_다시_받는다() {
+        // Given
+        UserRateLimiter limiter = new UserRateLimiter(1024, 1_000, 100, 2);
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+
+        // When
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> limiter.acquire(1L));
+        limiter.release(1L);
+
+        // Then
+        // token 하나가 채워지는 시간(1ms) 뒤에 다시 시도하게 한다.
+        assertEquals(1, e.getRetryAfterMillis());
+        limiter.acquire(1L);
+    }
+
+    @Test
+    void execute_는_결과가_끝나야_처리_중인_요청_수를_돌려놓는다() {
+        // Given
+        UserRateLimiter limiter = new UserRateLimiter(1024, 1_000, 100, 1);
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Long> result = limiter.execute(1L, () -> pending);
+
+        // Then
+        assertThrows(TooManyRequestsException.class, () -> limiter.execute(1L, () -> CompletableFuture.completedFuture(0L)));
+        pending.complete(100L);
+        assertEquals(100L, result.join().longValue());
+        assertEquals(0L, limiter.execute(1L, () -> CompletableFuture.completedFuture(0L)).join().longValue());
+    }
+
+    @Test
+    void unlimited_는_거절하지_않는다() {
+        // Given
+        UserRateLimiter limiter = UserRateLimiter.unlimited();
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            limiter.acquire(1L);
+        }
+
+        // Then
+        assertEquals(0L, limiter.execute(1L, () -> CompletableFuture.completedFuture(0L)).join().longValue());
+    }
+}
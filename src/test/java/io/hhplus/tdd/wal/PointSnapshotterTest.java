@@ -0,0 +1,148 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PointSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    private final IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+    private final UserPointStore userPointStore = new TableUserPointStore(new UserPointTable());
+
+    @Test
+    void 스냅샷과_이후의_로그로_잔액을_보관한_로그까지_모두_replay_해서_내역을_복구한다() {
+        // Given
+        Path logFile = directory.resolve("point.wal");
+        Path snapshotFile = directory.resolve("point.snapshot");
+        try (PointWriteAheadLog writeAheadLog = open(logFile);
+             PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L));
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(2L, TransactionType.CHARGE, 500, 500, 2L));
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.USE, 300, 700, 3L));
+            snapshotter.snapshot(pointHistoryTable, userPointStore);
+            // 스냅샷 이후의 로그
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(2L, TransactionType.USE, 100, 400, 4L));
+        }
+        IndexedPointHistoryTable restoredHistoryTable = new IndexedPointHistoryTable();
+        UserPointStore restoredUserPointStore = new TableUserPointStore(new UserPointTable());
+        List<Long> knownUsers = new ArrayList<>();
+
+        // When
+        long replayed;
+        try (PointWriteAheadLog writeAheadLog = open(logFile);
+             PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+            replayed = snapshotter.restore(restoredHistoryTable, restoredUserPointStore, knownUsers::add);
+        }
+
+        // Then
+        assertEquals(1, replayed);
+        assertEquals(700, restoredUserPointStore.selectById(1L).point());
+        assertEquals(400, restoredUserPointStore.selectById(2L).point());
+        assertEquals(List.of(1L, 2L), knownUsers.stream().sorted().toList());
+        // 스냅샷 이전의 내역도 보관 파일에서 다시 만들어진다.
+        assertEquals(List.of(1000L, 300L),
+                restoredHistoryTable.selectAllByUserId(1L).stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(500L, 100L),
+                restoredHistoryTable.selectAllByUserId(2L).stream().map(PointHistory::amount).toList());
+        assertEquals(5L, restoredHistoryTable.insert(1L, 10, TransactionType.CHARGE, 5L).id());
+    }
+
+    @Test
+    void 스냅샷이_abort_로_되돌리기_전의_잔액을_읽었어도_되돌린_잔액으로_복구한다() {
+        // Given
+        Path logFile = directory.resolve("point.wal");
+        Path snapshotFile = directory.resolve("point.snapshot");
+        try (PointWriteAheadLog writeAheadLog = open(logFile);
+             PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L));
+            // 잔액은 바꿨지만 내역 저장에 실패해 되돌릴 거래
+            long failed = writeAheadLog.begin(new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 500, 1500, 2L));
+            userPointStore.insertOrUpdate(1L, 1500);
+            snapshotter.snapshot(pointHistoryTable, userPointStore);
+            userPointStore.insertOrUpdate(1L, 1000);
+            writeAheadLog.abort(failed, 1L, 1000);
+        }
+        UserPointStore restoredUserPointStore = new TableUserPointStore(new UserPointTable());
+
+        // When
+        try (PointWriteAheadLog writeAheadLog = open(logFile);
+             PointSnapshotter snapshotter = new PointSnapshotter(snapshotFile, writeAheadLog)) {
+            snapshotter.restore(new IndexedPointHistoryTable(), restoredUserPointStore, id -> {
+            });
+        }
+
+        // Then
+        assertEquals(1000, restoredUserPointStore.selectById(1L).point());
+    }
+
+    @Test
+    void 새로_반영할_로그가_없으면_스냅샷을_남기지_않는다() {
+        // Given
+        try (PointWriteAheadLog writeAheadLog = open(directory.resolve("point.wal"));
+             PointSnapshotter snapshotter = new PointSnapshotter(directory.resolve("point.snapshot"), writeAheadLog)) {
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L));
+
+            // When
+            boolean first = snapshotter.snapshot(pointHistoryTable, userPointStore);
+            boolean second = snapshotter.snapshot(pointHistoryTable, userPointStore);
+
+            // Then
+            assertTrue(first);
+            assertFalse(second);
+            assertEquals(writeAheadLog.syncedPosition(), snapshotter.logPosition());
+        }
+    }
+
+    @Test
+    void 스냅샷을_남기면_스냅샷에_반영된_로그를_보관_파일로_옮긴다() throws IOException {
+        // Given
+        Path logFile = directory.resolve("point.wal");
+        try (PointWriteAheadLog writeAheadLog = open(logFile);
+             PointSnapshotter snapshotter = new PointSnapshotter(directory.resolve("point.snapshot"), writeAheadLog)) {
+            for (int i = 1; i <= 100; i++) {
+                apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 10, i * 10L, i));
+            }
+
+            // When
+            snapshotter.snapshot(pointHistoryTable, userPointStore);
+            apply(writeAheadLog, new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 10, 1010, 101L));
+
+            // Then
+            assertEquals(snapshotter.logPosition(), writeAheadLog.firstPosition());
+        }
+        assertEquals(PointWriteAheadLog.HEADER_BYTES + 41, Files.size(logFile));
+        assertEquals(PointWriteAheadLog.HEADER_BYTES + 100 * 41,
+                Files.size(directory.resolve("point.wal." + String.format("%020d", 0))));
+    }
+
+    // PointService 처럼 로그를 남기고 내역과 잔액을 저장한 뒤 commit 한다.
+    private void apply(PointWriteAheadLog writeAheadLog, PointWriteAheadLog.Entry entry) {
+        long position = writeAheadLog.begin(entry);
+        pointHistoryTable.insert(entry.userId(), entry.amount(), entry.type(), entry.updateMillis());
+        userPointStore.insertOrUpdate(entry.userId(), entry.balance());
+        writeAheadLog.commit(position);
+    }
+
+    private static PointWriteAheadLog open(Path file) {
+        return new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1);
+    }
+}
@@ -0,0 +1,177 @@
+package io.hhplus.tdd.wal;
+
+import io.hhplus.tdd.database.IndexedPointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointStore;
+import io.hhplus.tdd.database.UserPointStore;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_로그를_순서대로_replay_한다() {
+        // Given
+        Path file = directory.resolve("point.wal");
+        List<PointWriteAheadLog.Entry> entries = List.of(
+                new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L),
+                new PointWriteAheadLog.Entry(2L, TransactionType.CHARGE, 500, 500, 2L),
+                new PointWriteAheadLog.Entry(1L, TransactionType.USE, 300, 700, 3L));
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.EVERY_N, Duration.ZERO, 2)) {
+            entries.forEach(writeAheadLog::append);
+        }
+
+        // When
+        List<PointWriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.replay(replayed::add);
+        }
+
+        // Then
+        assertEquals(entries, replayed);
+    }
+
+    @Test
+    void 끝까지_기록되지_않은_레코드는_잘라내고_이어서_기록한다() throws IOException {
+        // Given
+        Path file = directory.resolve("point.wal");
+        PointWriteAheadLog.Entry first = new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L);
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.append(first);
+            writeAheadLog.append(new PointWriteAheadLog.Entry(1L, TransactionType.USE, 100, 900, 2L));
+        }
+        // 두 번째 레코드를 기록하던 중에 장애가 난 상황
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        // When
+        PointWriteAheadLog.Entry next = new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 10, 1010, 3L);
+        List<PointWriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.append(next);
+            writeAheadLog.replay(replayed::add);
+        }
+
+        // Then
+        assertEquals(List.of(first, next), replayed);
+        assertEquals(PointWriteAheadLog.HEADER_BYTES + 2 * 41, Files.size(file));
+    }
+
+    @Test
+    void 헤더가_없는_파일은_열지_않는다() throws IOException {
+        // Given
+        Path file = directory.resolve("point.wal");
+        Files.write(file, new byte[2 * 41]);
+
+        // When
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1));
+
+        // Then
+        assertEquals("포인트 로그 형식이 올바르지 않습니다. file=" + file, exception.getMessage());
+    }
+
+    @Test
+    void archiveBefore_는_앞부분을_보관_파일로_옮기고_위치는_그대로_유지한다() throws IOException {
+        // Given
+        Path file = directory.resolve("point.wal");
+        PointWriteAheadLog.Entry first = new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L);
+        PointWriteAheadLog.Entry second = new PointWriteAheadLog.Entry(1L, TransactionType.USE, 100, 900, 2L);
+        PointWriteAheadLog.Entry third = new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 10, 910, 3L);
+        long position;
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.append(first);
+            position = writeAheadLog.syncedPosition();
+            writeAheadLog.append(second);
+
+            // When
+            writeAheadLog.archiveBefore(position);
+            writeAheadLog.append(third);
+        }
+
+        // Then
+        List<PointWriteAheadLog.Entry> replayed = new ArrayList<>();
+        List<PointWriteAheadLog.Entry> all = new ArrayList<>();
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            assertEquals(position, writeAheadLog.firstPosition());
+            assertEquals(position + 2 * 41, writeAheadLog.replay(position, Long.MAX_VALUE, replayed::add));
+            assertEquals(position + 2 * 41, writeAheadLog.syncedPosition());
+            writeAheadLog.replay(all::add);
+        }
+        assertEquals(List.of(second, third), replayed);
+        assertEquals(List.of(first, second, third), all);
+        assertEquals(PointWriteAheadLog.HEADER_BYTES + 2 * 41, Files.size(file));
+        assertEquals(PointWriteAheadLog.HEADER_BYTES + 41,
+                Files.size(directory.resolve("point.wal." + String.format("%020d", 0))));
+    }
+
+    @Test
+    void abort_한_로그는_replay_하지_않고_commit_이나_abort_전까지_appliedPosition_이_앞에_머문다() {
+        // Given
+        Path file = directory.resolve("point.wal");
+        PointWriteAheadLog.Entry first = new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L);
+        PointWriteAheadLog.Entry other = new PointWriteAheadLog.Entry(2L, TransactionType.CHARGE, 500, 500, 3L);
+        List<Long> appliedPositions = new ArrayList<>();
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.commit(writeAheadLog.begin(first));
+
+            // When
+            long failed = writeAheadLog.begin(new PointWriteAheadLog.Entry(1L, TransactionType.USE, 300, 700, 2L));
+            writeAheadLog.commit(writeAheadLog.begin(other));
+            appliedPositions.add(writeAheadLog.appliedPosition());
+            writeAheadLog.abort(failed, 1L);
+            appliedPositions.add(writeAheadLog.appliedPosition());
+        }
+
+        // Then
+        List<PointWriteAheadLog.Entry> replayed = new ArrayList<>();
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            writeAheadLog.replay(replayed::add);
+        }
+        assertEquals(List.of(first, other), replayed);
+        assertEquals(List.of(41L, 4 * 41L), appliedPositions);
+    }
+
+    @Test
+    void 로그를_replay_해서_내역과_잔액을_복구한다() {
+        // Given
+        Path file = directory.resolve("point.wal");
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.INTERVAL, Duration.ofMillis(5), 1)) {
+            writeAheadLog.append(new PointWriteAheadLog.Entry(1L, TransactionType.CHARGE, 1000, 1000, 1L));
+            writeAheadLog.append(new PointWriteAheadLog.Entry(1L, TransactionType.USE, 300, 700, 2L));
+        }
+        IndexedPointHistoryTable pointHistoryTable = new IndexedPointHistoryTable();
+        UserPointStore userPointTable = new TableUserPointStore(new UserPointTable());
+
+        // When
+        long recovered;
+        try (PointWriteAheadLog writeAheadLog = new PointWriteAheadLog(file, PointWriteAheadLog.FsyncPolicy.PER_OP, Duration.ZERO, 1)) {
+            recovered = writeAheadLog.recover(pointHistoryTable, userPointTable);
+        }
+
+        // Then
+        assertEquals(2, recovered);
+        assertEquals(700, userPointTable.selectById(1L).point());
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE), histories.stream().map(PointHistory::type).toList());
+        assertEquals(List.of(1000L, 300L), histories.stream().map(PointHistory::amount).toList());
+    }
+}